@@ -0,0 +1,17 @@
+package com.nhnacademy.book.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookBatchQuery {
+    private List<Long> bookIds;
+    private List<String> isbns;
+}
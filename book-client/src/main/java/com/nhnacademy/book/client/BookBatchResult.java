@@ -0,0 +1,16 @@
+package com.nhnacademy.book.client;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookBatchResult {
+    private List<BookDto> books;
+    private List<Long> missingBookIds;
+    private List<String> missingIsbns;
+}
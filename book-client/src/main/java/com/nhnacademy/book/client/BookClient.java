@@ -0,0 +1,22 @@
+package com.nhnacademy.book.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+// 도서 서비스(BookController) Feign 클라이언트
+// 서비스 이름은 Eureka 에 등록된 이름이며 book.client.service-id 로 바꿀 수 있습니다.
+// 항목마다 상세를 조회하는 대신 CoalescingBookClient 를 쓰면 동시 요청이 batch 호출 하나로 묶입니다.
+@FeignClient(name = "${book.client.service-id:book}", contextId = "bookClient", path = "/api/books")
+public interface BookClient {
+
+    // GET /api/books/{bookId}
+    @GetMapping("/{bookId}")
+    BookDto getBook(@PathVariable("bookId") Long bookId);
+
+    // POST /api/books/batch (최대 500건)
+    @PostMapping("/batch")
+    BookBatchResult getBooks(@RequestBody BookBatchQuery query);
+}
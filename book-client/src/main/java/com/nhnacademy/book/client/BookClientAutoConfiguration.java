@@ -0,0 +1,25 @@
+package com.nhnacademy.book.client;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+
+// 의존성만 추가하면 BookClient 와 CoalescingBookClient 빈이 등록됩니다.
+@AutoConfiguration
+@EnableFeignClients(clients = BookClient.class)
+@EnableConfigurationProperties(BookClientProperties.class)
+public class BookClientAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public CoalescingBookClient coalescingBookClient(BookClient bookClient, BookClientProperties properties) {
+        if (properties.getMaxBatchSize() < 1 || properties.getMaxBatchSize() > 500) {
+            throw new IllegalArgumentException("book.client.max-batch-size 는 1 ~ 500 사이여야 합니다.");
+        }
+
+        return new CoalescingBookClient(bookClient, properties.getWindow(), properties.getMaxBatchSize(),
+                properties.getNearCacheSize(), properties.getNearCacheTtl(), properties.getSenderThreads());
+    }
+}
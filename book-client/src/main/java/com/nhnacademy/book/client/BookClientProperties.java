@@ -0,0 +1,29 @@
+package com.nhnacademy.book.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// book.client.* 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "book.client")
+public class BookClientProperties {
+    // Eureka 서비스 이름 (@FeignClient name 에서 직접 읽음)
+    private String serviceId = "book";
+
+    // 단건 조회를 모으는 시간. 길수록 더 많이 묶이지만 첫 요청의 지연이 늘어납니다.
+    private Duration window = Duration.ofMillis(5);
+
+    // 한 번에 보내는 최대 id 수 (서버 제한 500 이하)
+    private int maxBatchSize = 200;
+
+    // near cache (0 이면 사용 안 함)
+    private int nearCacheSize = 10_000;
+    private Duration nearCacheTtl = Duration.ofSeconds(5);
+
+    // batch 호출을 보내는 스레드 수
+    private int senderThreads = 4;
+}
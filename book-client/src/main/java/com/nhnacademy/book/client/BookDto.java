@@ -0,0 +1,29 @@
+package com.nhnacademy.book.client;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// 도서 상세 (서버의 BookDetailResponse 와 같은 필드)
+// 상태는 서버 enum 에 묶이지 않도록 문자열로 받습니다.
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookDto {
+    private Long bookId;
+    private String isbn;
+    private String bookName;
+    private String bookDescription;
+    private String bookPublisher;
+    private LocalDate bookPublicationDate;
+    private String bookIndex;
+    private boolean bookPackaging;
+    private String bookState;
+    private int bookStock;
+    private int bookRegularPrice;
+    private int bookSalePrice;
+    private double bookReviewRate;
+    private String bookImage;
+}
@@ -0,0 +1,193 @@
+package com.nhnacademy.book.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 도서 단건 조회를 모아서 보내는 클라이언트 (request collapser)
+// 여러 스레드가 동시에 getBook 을 부르면 짧은 시간(window) 동안 id 를 모았다가 POST /api/books/batch 한 번으로 보냅니다.
+// - 같은 id 를 동시에 요청하면 요청 하나로 합칩니다.
+// - window 가 끝나기 전에 maxBatchSize 만큼 모이면 바로 보냅니다.
+// - 받은 결과는 near cache 에 짧게 두어 같은 id 의 다음 조회는 호출 없이 응답합니다.
+@Slf4j
+public class CoalescingBookClient implements AutoCloseable {
+
+    private final BookClient bookClient;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final NearCache<Long, BookDto> nearCache;
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sender;
+
+    private final Object lock = new Object();
+    // 아직 보내지 않은 id -> 기다리는 호출자들이 공유하는 결과
+    private Map<Long, CompletableFuture<Optional<BookDto>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong batchCalls = new AtomicLong();
+
+    public CoalescingBookClient(BookClient bookClient, Duration window, int maxBatchSize,
+                                int nearCacheSize, Duration nearCacheTtl, int senderThreads) {
+        this.bookClient = bookClient;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.nearCache = new NearCache<>(nearCacheSize, nearCacheTtl.toNanos(), System::nanoTime);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("book-client-collapser"));
+        this.sender = Executors.newFixedThreadPool(senderThreads, daemon("book-client-sender"));
+    }
+
+    // 도서 상세 (없는 도서면 Optional.empty)
+    public Optional<BookDto> getBook(long bookId) {
+        try {
+            return getBookAsync(bookId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<Optional<BookDto>> getBookAsync(long bookId) {
+        lookups.incrementAndGet();
+
+        BookDto cached = nearCache.get(bookId);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return CompletableFuture.completedFuture(Optional.of(cached));
+        }
+
+        Map<Long, CompletableFuture<Optional<BookDto>>> full = null;
+        CompletableFuture<Optional<BookDto>> result;
+
+        synchronized (lock) {
+            result = pending.get(bookId);
+            if (result != null) {
+                return result;
+            }
+
+            result = new CompletableFuture<>();
+            pending.put(bookId, result);
+
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (full != null) {
+            Map<Long, CompletableFuture<Optional<BookDto>>> batch = full;
+            sender.execute(() -> send(batch));
+        }
+        return result;
+    }
+
+    // 서버에서 바뀐 걸 알았을 때 (예: 주문 후 재고) near cache 를 지웁니다.
+    public void invalidate(long bookId) {
+        nearCache.invalidate(bookId);
+    }
+
+    public void invalidateAll() {
+        nearCache.invalidateAll();
+    }
+
+    // 호출 수 비교용 통계: 단건 조회 수 / near cache 적중 / 실제 batch 호출 수
+    public long getLookupCount() {
+        return lookups.get();
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+
+    public long getBatchCallCount() {
+        return batchCalls.get();
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<Optional<BookDto>>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            sender.execute(() -> send(batch));
+        }
+    }
+
+    // lock 을 잡은 상태에서 호출합니다.
+    private Map<Long, CompletableFuture<Optional<BookDto>>> takePending() {
+        Map<Long, CompletableFuture<Optional<BookDto>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(Map<Long, CompletableFuture<Optional<BookDto>>> batch) {
+        batchCalls.incrementAndGet();
+
+        try {
+            BookBatchResult result = bookClient.getBooks(new BookBatchQuery(new ArrayList<>(batch.keySet()), null));
+
+            Set<Long> found = new HashSet<>();
+            List<BookDto> books = result.getBooks() == null ? List.of() : result.getBooks();
+            for (BookDto book : books) {
+                CompletableFuture<Optional<BookDto>> waiting = batch.get(book.getBookId());
+                if (waiting != null) {
+                    nearCache.put(book.getBookId(), book);
+                    found.add(book.getBookId());
+                    waiting.complete(Optional.of(book));
+                }
+            }
+
+            // 응답에 없는 id 는 없는 도서로 처리합니다. (missingBookIds)
+            batch.forEach((bookId, waiting) -> {
+                if (!found.contains(bookId)) {
+                    waiting.complete(Optional.empty());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("[BOOK-CLIENT] 도서 batch 조회 실패: {} 건 ({})", batch.size(), e.getMessage());
+            batch.values().forEach(waiting -> waiting.completeExceptionally(e));
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        sender.shutdown();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
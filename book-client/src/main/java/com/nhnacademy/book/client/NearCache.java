@@ -0,0 +1,62 @@
+package com.nhnacademy.book.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// 호출하는 쪽 메모리에 두는 작은 LRU + TTL 캐시
+// TTL 을 짧게(기본 5초) 두어 가격/재고가 바뀌어도 오래 남지 않게 합니다.
+// 항목 수가 작아서 잠금 하나로 충분합니다.
+class NearCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    NearCache(int maxSize, long ttlNanos, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+        // accessOrder = true -> 가장 오래 안 쓴 항목이 맨 앞
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > NearCache.this.maxSize;
+            }
+        };
+    }
+
+    synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - clock.getAsLong() <= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    synchronized void put(K key, V value) {
+        if (maxSize > 0 && ttlNanos > 0) {
+            entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+        }
+    }
+
+    synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,123 @@
+package com.nhnacademy.book.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingBookClientTests {
+
+	// 서버 대신 쓰는 stub: batch 호출 수를 세고, id 100 이상은 없는 도서로 응답합니다.
+	static class StubBookClient implements BookClient {
+		final AtomicInteger batchCalls = new AtomicInteger();
+		volatile boolean failing;
+
+		@Override
+		public BookDto getBook(Long bookId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public BookBatchResult getBooks(BookBatchQuery query) {
+			batchCalls.incrementAndGet();
+			if (failing) {
+				throw new IllegalStateException("book service down");
+			}
+
+			List<BookDto> books = new ArrayList<>();
+			List<Long> missing = new ArrayList<>();
+			for (Long bookId : query.getBookIds()) {
+				if (bookId >= 100) {
+					missing.add(bookId);
+					continue;
+				}
+				BookDto book = new BookDto();
+				book.setBookId(bookId);
+				book.setBookName("book-" + bookId);
+				books.add(book);
+			}
+
+			BookBatchResult result = new BookBatchResult();
+			result.setBooks(books);
+			result.setMissingBookIds(missing);
+			return result;
+		}
+	}
+
+	private final StubBookClient stub = new StubBookClient();
+	private final ExecutorService callers = Executors.newFixedThreadPool(32);
+	private CoalescingBookClient client;
+
+	@AfterEach
+	void tearDown() {
+		callers.shutdownNow();
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	@Test
+	void concurrentLookupsAreSentAsFewBatchCalls() {
+		client = new CoalescingBookClient(stub, Duration.ofMillis(20), 200, 1000, Duration.ofSeconds(5), 2);
+
+		List<CompletableFuture<Optional<BookDto>>> results = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			long bookId = i % 50;
+			results.add(CompletableFuture.supplyAsync(() -> client.getBook(bookId), callers));
+		}
+
+		for (int i = 0; i < results.size(); i++) {
+			assertThat(results.get(i).join()).get().extracting(BookDto::getBookName).isEqualTo("book-" + (i % 50));
+		}
+		assertThat(stub.batchCalls.get()).isLessThanOrEqualTo(40);
+	}
+
+	@Test
+	void nearCacheAnswersRepeatedLookupsWithoutCalls() {
+		client = new CoalescingBookClient(stub, Duration.ofMillis(1), 200, 1000, Duration.ofSeconds(5), 2);
+
+		client.getBook(1);
+		int calls = stub.batchCalls.get();
+
+		assertThat(client.getBook(1)).isPresent();
+		assertThat(stub.batchCalls.get()).isEqualTo(calls);
+		assertThat(client.getCacheHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void missingBooksAreEmpty() {
+		client = new CoalescingBookClient(stub, Duration.ofMillis(1), 200, 1000, Duration.ofSeconds(5), 2);
+
+		assertThat(client.getBook(100)).isEmpty();
+	}
+
+	@Test
+	void fullBatchIsSentWithoutWaitingForWindow() {
+		client = new CoalescingBookClient(stub, Duration.ofMinutes(1), 3, 1000, Duration.ofSeconds(5), 2);
+
+		CompletableFuture<Optional<BookDto>> first = client.getBookAsync(1);
+		client.getBookAsync(2);
+		client.getBookAsync(3);
+
+		assertThat(first.join()).isPresent();
+		assertThat(stub.batchCalls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void failureIsPropagatedToEveryWaitingCaller() {
+		client = new CoalescingBookClient(stub, Duration.ofMillis(1), 200, 1000, Duration.ofSeconds(5), 2);
+		stub.failing = true;
+
+		assertThatThrownBy(() -> client.getBook(1)).isInstanceOf(IllegalStateException.class);
+	}
+}
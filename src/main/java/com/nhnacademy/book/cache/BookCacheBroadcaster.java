@@ -0,0 +1,19 @@
+package com.nhnacademy.book.cache;
+
+import java.util.Collection;
+
+// 다른 노드의 도서 캐시를 지우기 위한 확장 지점 (선택)
+// 빈이 없으면 이 노드의 캐시만 지웁니다. 예를 들어 Redis pub/sub 이나 메시지 큐로 bookId 를 보내고,
+// 받는 쪽에서 BookDetailCache.evictLocal(bookId) 를 호출하도록 구현하면 됩니다. (전체 무효화는 evictAllLocal())
+public interface BookCacheBroadcaster {
+    void broadcastEviction(Long bookId);
+
+    // 여러 건을 한 번에 보낼 수 있으면 재정의합니다. (가격 일괄 변경 청크 등)
+    default void broadcastEvictions(Collection<Long> bookIds) {
+        bookIds.forEach(this::broadcastEviction);
+    }
+
+    // 전체 무효화 (도서 적재 뒤 등). 재정의하지 않으면 다른 노드는 TTL 이 지날 때까지 예전 값을 볼 수 있습니다.
+    default void broadcastEvictAll() {
+    }
+}
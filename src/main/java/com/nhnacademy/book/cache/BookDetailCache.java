@@ -0,0 +1,214 @@
+package com.nhnacademy.book.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.book.dto.BookDetailResponse;
+import com.nhnacademy.book.job.CatalogImportedEvent;
+import com.nhnacademy.book.job.ImportType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 도서 상세 조회 캐시 (노드 안 메모리, 크기 + TTL 제한)
+// 적중/미스/제거 수는 cache.* 메트릭(cache=book.detail)으로 /actuator/metrics 에서 볼 수 있습니다.
+//
+// 수정 직후 예전 가격이 보이면 안 되므로:
+// 1. 수정/삭제 시 바로 지우고, 커밋 뒤에 한 번 더 지웁니다. (커밋 전에 다른 요청이 예전 값을 다시 넣었을 수 있음)
+// 2. 조회 중에 무효화가 있었으면(세대 번호가 바뀜) 방금 넣은 값을 스스로 지웁니다.
+//    (DB 에서 예전 값을 읽은 요청이 무효화 이후에 캐시에 넣는 경우)
+@Slf4j
+@Component
+public class BookDetailCache {
+
+    private final Cache<Long, BookDetailResponse> cache;
+    private final ObjectProvider<BookCacheBroadcaster> broadcasters;
+
+    // 무효화할 때마다 올라가는 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public BookDetailCache(@Value("${book.cache.detail.max-size:10000}") long maxSize,
+                           @Value("${book.cache.detail.ttl-seconds:300}") long ttlSeconds,
+                           MeterRegistry meterRegistry,
+                           ObjectProvider<BookCacheBroadcaster> broadcasters) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.broadcasters = broadcasters;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "book.detail");
+    }
+
+    // 캐시에 있으면 바로 반환, 없으면 loader 로 읽어서 넣습니다. (loader 가 던진 예외는 캐시하지 않음)
+    public BookDetailResponse get(Long bookId, Supplier<BookDetailResponse> loader) {
+        BookDetailResponse cached = cache.getIfPresent(bookId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedAt = generation.get();
+        BookDetailResponse loaded = loader.get();
+        cache.put(bookId, loaded);
+
+        if (generation.get() != loadedAt) {
+            cache.invalidate(bookId);
+        }
+        return loaded;
+    }
+
+    // 여러 건 조회: 캐시에 없는 id 만 모아서 loader 를 한 번 호출합니다. (없는 도서는 결과에서 빠짐)
+    public Map<Long, BookDetailResponse> getAll(Collection<Long> bookIds,
+                                                Function<Set<Long>, Map<Long, BookDetailResponse>> loader) {
+        Map<Long, BookDetailResponse> result = new HashMap<>(cache.getAllPresent(bookIds));
+
+        Set<Long> misses = new LinkedHashSet<>(bookIds);
+        misses.removeAll(result.keySet());
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long loadedAt = generation.get();
+        Map<Long, BookDetailResponse> loaded = loader.apply(misses);
+        cache.putAll(loaded);
+        result.putAll(loaded);
+
+        if (generation.get() != loadedAt) {
+            cache.invalidateAll(loaded.keySet());
+        }
+        return result;
+    }
+
+    // 다른 키(ISBN 등)로 읽은 상세를 넣습니다.
+    public void putAll(Map<Long, BookDetailResponse> books, long loadedAt) {
+        cache.putAll(books);
+        if (generation.get() != loadedAt) {
+            cache.invalidateAll(books.keySet());
+        }
+    }
+
+    // 조회 전에 받아 두었다가 putAll 에 넘기는 세대 번호
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    // 수정/삭제 시 호출합니다. 트랜잭션 안이면 커밋 뒤에 한 번 더 지우고 다른 노드에도 알립니다.
+    public void evict(Long bookId) {
+        evictLocal(bookId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(bookId);
+                    broadcast(bookId);
+                }
+            });
+        } else {
+            broadcast(bookId);
+        }
+    }
+
+    // 여러 건 수정 시 호출합니다. (가격 일괄 변경 청크) evict 와 같이 커밋 뒤에 한 번 더 지우고 다른 노드에도 알립니다.
+    public void evictAll(Collection<Long> bookIds) {
+        generation.incrementAndGet();
+        cache.invalidateAll(bookIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                    cache.invalidateAll(bookIds);
+                    broadcast(bookIds);
+                }
+            });
+        } else {
+            broadcast(bookIds);
+        }
+    }
+
+    // 대량 변경(적재 등) 뒤에는 전체를 지웁니다. evict 와 같이 커밋 뒤에 한 번 더 지우고 다른 노드에도 알립니다.
+    public void evictAll() {
+        evictAllLocal();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAllLocal();
+                    broadcastAll();
+                }
+            });
+        } else {
+            broadcastAll();
+        }
+    }
+
+    // 도서 적재(증분 포함)가 끝나면 바뀐 도서를 하나하나 알 수 없으므로 전체를 지웁니다.
+    @EventListener
+    public void onImported(CatalogImportedEvent event) {
+        if (event.type() == ImportType.BOOK) {
+            evictAll();
+        }
+    }
+
+    // 이 노드의 캐시만 지웁니다. (다른 노드에서 받은 무효화 메시지 처리용)
+    public void evictLocal(Long bookId) {
+        generation.incrementAndGet();
+        cache.invalidate(bookId);
+    }
+
+    // 이 노드의 캐시를 모두 지웁니다. (다른 노드에서 받은 전체 무효화 메시지 처리용)
+    public void evictAllLocal() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private void broadcastAll() {
+        broadcasters.orderedStream().forEach(broadcaster -> {
+            try {
+                broadcaster.broadcastEvictAll();
+            } catch (RuntimeException e) {
+                log.warn("[CACHE] 도서 캐시 전체 무효화 전파 실패 ({})", e.getMessage());
+            }
+        });
+    }
+
+    private void broadcast(Collection<Long> bookIds) {
+        broadcasters.orderedStream().forEach(broadcaster -> {
+            try {
+                broadcaster.broadcastEvictions(bookIds);
+            } catch (RuntimeException e) {
+                log.warn("[CACHE] 도서 캐시 무효화 전파 실패: {} 건 ({})", bookIds.size(), e.getMessage());
+            }
+        });
+    }
+
+    private void broadcast(Long bookId) {
+        broadcasters.orderedStream().forEach(broadcaster -> {
+            try {
+                broadcaster.broadcastEviction(bookId);
+            } catch (RuntimeException e) {
+                // 다른 노드 무효화에 실패해도 TTL 이 지나면 사라지므로 요청은 실패시키지 않습니다.
+                log.warn("[CACHE] 도서 캐시 무효화 전파 실패: {} ({})", bookId, e.getMessage());
+            }
+        });
+    }
+}
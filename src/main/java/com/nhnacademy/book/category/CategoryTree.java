@@ -0,0 +1,233 @@
+package com.nhnacademy.book.category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 카테고리 계층 전체의 불변 스냅샷
+// 만들 때 부모/자식/조상 경로/하위 id 범위를 모두 계산해 두므로, 조회는 DB 없이 상수 시간입니다.
+// 바뀌면 새로 만들어서 통째로 교체합니다. (CategoryTreeCache)
+public final class CategoryTree {
+
+    public record Entry(long categoryId, String categoryName, Long parentId) {
+    }
+
+    // 하위 카테고리 id 가 모두 들어있는 닫힌 구간 [from, to] (BETWEEN 조건용)
+    public record IdRange(long from, long to) {
+    }
+
+    private static final int NO_PARENT = -1;
+
+    // id 오름차순
+    private final long[] ids;
+    private final String[] names;
+    private final int[] parents;
+    private final List<List<Long>> children;
+    private final List<List<Long>> ancestors;
+    private final List<List<IdRange>> descendantRanges;
+    private final List<Long> rootIds;
+
+    // 전위 순회 번호 (조상 판별용: a 가 b 의 조상 <=> pre[a] <= pre[b] <= last[a])
+    private final int[] preOrder;
+    private final int[] lastPreOrder;
+
+    private final Map<Long, Integer> indexById;
+
+    private CategoryTree(List<Entry> entries) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort((a, b) -> Long.compare(a.categoryId(), b.categoryId()));
+
+        int size = sorted.size();
+        ids = new long[size];
+        names = new String[size];
+        parents = new int[size];
+        indexById = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            ids[i] = sorted.get(i).categoryId();
+            names[i] = sorted.get(i).categoryName();
+            indexById.put(ids[i], i);
+        }
+
+        // 1. 부모 연결
+        List<List<Integer>> childIndexes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            childIndexes.add(new ArrayList<>());
+        }
+        List<Integer> rootIndexes = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            parents[i] = resolveParent(i, sorted.get(i).parentId());
+            if (parents[i] == NO_PARENT) {
+                rootIndexes.add(i);
+            } else {
+                childIndexes.get(parents[i]).add(i);
+            }
+        }
+
+        // 2. 전위 순회 (자식은 id 순서) -> 조상 경로, 하위 구간
+        preOrder = new int[size];
+        lastPreOrder = new int[size];
+        int[] order = new int[size];
+        int[] counter = {0};
+        for (int root : rootIndexes) {
+            visit(root, childIndexes, order, counter);
+        }
+
+        List<List<Long>> childrenView = new ArrayList<>(size);
+        List<List<Long>> ancestorsView = new ArrayList<>(size);
+        List<List<IdRange>> rangesView = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            childrenView.add(toIds(childIndexes.get(i)));
+            ancestorsView.add(pathOf(i));
+            rangesView.add(rangesOf(i, order));
+        }
+
+        children = Collections.unmodifiableList(childrenView);
+        ancestors = Collections.unmodifiableList(ancestorsView);
+        descendantRanges = Collections.unmodifiableList(rangesView);
+        rootIds = toIds(rootIndexes);
+    }
+
+    public static CategoryTree of(List<Entry> entries) {
+        return new CategoryTree(entries);
+    }
+
+    public static CategoryTree empty() {
+        return new CategoryTree(List.of());
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(long categoryId) {
+        return indexById.containsKey(categoryId);
+    }
+
+    public List<Long> getRootIds() {
+        return rootIds;
+    }
+
+    public String getName(long categoryId) {
+        return names[indexOf(categoryId)];
+    }
+
+    // 최상위면 null
+    public Long getParentId(long categoryId) {
+        int parent = parents[indexOf(categoryId)];
+        return parent == NO_PARENT ? null : ids[parent];
+    }
+
+    public List<Long> getChildIds(long categoryId) {
+        return children.get(indexOf(categoryId));
+    }
+
+    // 최상위부터 자기 자신까지의 경로
+    public List<Long> getPath(long categoryId) {
+        return ancestors.get(indexOf(categoryId));
+    }
+
+    // 자기 자신을 포함한 하위 카테고리 id 구간 (KDC 코드라면 항상 구간 하나)
+    public List<IdRange> getDescendantRanges(long categoryId) {
+        return descendantRanges.get(indexOf(categoryId));
+    }
+
+    // 자기 자신을 포함한 하위 카테고리 id (구간이 여러 개로 나뉠 때 IN 조건용)
+    public List<Long> getDescendantIds(long categoryId) {
+        List<Long> result = new ArrayList<>();
+        for (IdRange range : getDescendantRanges(categoryId)) {
+            for (int i = indexById.get(range.from()); i <= indexById.get(range.to()); i++) {
+                result.add(ids[i]);
+            }
+        }
+        return result;
+    }
+
+    // categoryId 가 ancestorId 자신이거나 그 하위인지
+    public boolean isDescendantOf(long categoryId, long ancestorId) {
+        int node = indexOf(categoryId);
+        int ancestor = indexOf(ancestorId);
+        return preOrder[ancestor] <= preOrder[node] && preOrder[node] <= lastPreOrder[ancestor];
+    }
+
+    private int indexOf(long categoryId) {
+        Integer index = indexById.get(categoryId);
+        if (index == null) {
+            throw new IllegalArgumentException("해당 카테고리가 존재하지 않습니다. ID: " + categoryId);
+        }
+        return index;
+    }
+
+    // 저장된 부모가 없거나 자기 자신이면(이전 적재에서 "000", "010" 등이 자기 자신을 부모로 저장됨)
+    // KDC 코드 규칙으로 부모를 다시 찾습니다.
+    private int resolveParent(int index, Long parentId) {
+        if (parentId != null && parentId != ids[index]) {
+            Integer parent = indexById.get(parentId);
+            if (parent != null) {
+                return parent;
+            }
+        }
+
+        // 바로 위 코드가 없으면(예: 610 없이 611~619 만 있음) 그 위 코드로 올라갑니다.
+        long code = KdcCode.isValid(ids[index]) ? KdcCode.parentOf(ids[index]) : KdcCode.NONE;
+        while (code != KdcCode.NONE) {
+            Integer parent = indexById.get(code);
+            if (parent != null) {
+                return parent;
+            }
+            code = KdcCode.parentOf(code);
+        }
+        return NO_PARENT;
+    }
+
+    // 깊이가 3단계라 재귀로 충분합니다.
+    private void visit(int index, List<List<Integer>> childIndexes, int[] order, int[] counter) {
+        preOrder[index] = counter[0];
+        order[counter[0]++] = index;
+        for (int child : childIndexes.get(index)) {
+            visit(child, childIndexes, order, counter);
+        }
+        lastPreOrder[index] = counter[0] - 1;
+    }
+
+    private List<Long> pathOf(int index) {
+        List<Long> path = new ArrayList<>();
+        // 잘못된 데이터로 부모가 순환해도 멈추도록 깊이를 제한합니다.
+        for (int i = index; i != NO_PARENT && path.size() < ids.length; i = parents[i]) {
+            path.add(ids[i]);
+        }
+        Collections.reverse(path);
+        return List.copyOf(path);
+    }
+
+    // 하위 카테고리의 id 를 정렬해서, id 배열에서 연속된 것끼리 구간으로 묶습니다.
+    // 구간 사이에 다른 카테고리가 없으므로 BETWEEN 으로 조회해도 정확히 하위 카테고리만 걸립니다.
+    private List<IdRange> rangesOf(int index, int[] order) {
+        int[] subtree = Arrays.copyOfRange(order, preOrder[index], lastPreOrder[index] + 1);
+        Arrays.sort(subtree);
+
+        List<IdRange> ranges = new ArrayList<>(1);
+        int start = subtree[0];
+        for (int i = 1; i <= subtree.length; i++) {
+            if (i == subtree.length || subtree[i] != subtree[i - 1] + 1) {
+                ranges.add(new IdRange(ids[start], ids[subtree[i - 1]]));
+                if (i < subtree.length) {
+                    start = subtree[i];
+                }
+            }
+        }
+        return List.copyOf(ranges);
+    }
+
+    private List<Long> toIds(List<Integer> indexes) {
+        List<Long> result = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            result.add(ids[index]);
+        }
+        return List.copyOf(result);
+    }
+}
@@ -0,0 +1,86 @@
+package com.nhnacademy.book.category;
+
+import com.nhnacademy.book.dto.CategoryTreeResponse;
+import com.nhnacademy.book.job.CatalogImportedEvent;
+import com.nhnacademy.book.job.ImportType;
+import com.nhnacademy.book.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 카테고리 트리 스냅샷 캐시
+// 조회는 volatile 참조 하나만 읽고, 다시 만들 때는 새 스냅샷을 만든 뒤 참조를 바꿉니다. (읽는 쪽은 잠금 없음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private record Snapshot(CategoryTree tree, List<CategoryTreeResponse> response) {
+    }
+
+    private volatile Snapshot snapshot;
+
+    public CategoryTree getTree() {
+        return snapshot().tree();
+    }
+
+    // /api/categories 응답은 스냅샷을 만들 때 한 번만 만들어 둡니다.
+    public List<CategoryTreeResponse> getTreeResponse() {
+        return snapshot().response();
+    }
+
+    @EventListener
+    public void onImported(CatalogImportedEvent event) {
+        if (event.type() == ImportType.CATEGORY) {
+            rebuild();
+        }
+    }
+
+    // 카테고리 전체를 쿼리 한 번으로 읽습니다. (부모는 id 만 가져오므로 LAZY 로딩이 일어나지 않음)
+    // 부팅 시에는 CatalogWarmer 가 스냅샷 파일이나 이 메서드로 만듭니다. (아직 적재 전이면 빈 트리 -> 적재가 끝나면 다시 만듦)
+    public synchronized void rebuild() {
+        List<CategoryTree.Entry> entries = new ArrayList<>();
+        for (Object[] row : categoryRepository.findAllWithParentId()) {
+            entries.add(new CategoryTree.Entry((Long) row[0], (String) row[1], (Long) row[2]));
+        }
+        load(entries);
+    }
+
+    // DB 대신 다른 곳(카탈로그 스냅샷)에서 읽은 카테고리로 만듭니다.
+    public synchronized void load(List<CategoryTree.Entry> entries) {
+        long startedAt = System.nanoTime();
+
+        CategoryTree tree = CategoryTree.of(entries);
+        snapshot = new Snapshot(tree, toResponse(tree, tree.getRootIds()));
+
+        log.info("[CATEGORY] 카테고리 트리 갱신: {} 개 ({} ms)", tree.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private List<CategoryTreeResponse> toResponse(CategoryTree tree, List<Long> categoryIds) {
+        List<CategoryTreeResponse> nodes = new ArrayList<>(categoryIds.size());
+        for (Long categoryId : categoryIds) {
+            nodes.add(CategoryTreeResponse.builder()
+                    .categoryId(categoryId)
+                    .code(KdcCode.format(categoryId))
+                    .categoryName(tree.getName(categoryId))
+                    .children(toResponse(tree, tree.getChildIds(categoryId)))
+                    .build());
+        }
+        return List.copyOf(nodes);
+    }
+}
@@ -0,0 +1,32 @@
+package com.nhnacademy.book.category;
+
+import java.util.Arrays;
+
+// KDC 코드(0~999) -> 실제로 있는 가장 깊은 카테고리 id (XYZ -> XY0 -> X00 순서로 찾음)
+// 적재 시작 시 카테고리 트리 스냅샷으로 1000칸 배열을 한 번 채우므로, 행마다 조회 쿼리나 맵 탐색이 없습니다.
+// 불변 객체라 변환 워커 여러 개가 동시에 써도 됩니다.
+public final class KdcCategoryResolver {
+
+    private final long[] categoryIdByCode = new long[(int) KdcCode.MAX + 1];
+
+    private KdcCategoryResolver(CategoryTree tree) {
+        Arrays.fill(categoryIdByCode, KdcCode.NONE);
+
+        for (int code = 0; code < categoryIdByCode.length; code++) {
+            long candidate = code;
+            while (candidate != KdcCode.NONE && !tree.contains(candidate)) {
+                candidate = KdcCode.parentOf(candidate);
+            }
+            categoryIdByCode[code] = candidate;
+        }
+    }
+
+    public static KdcCategoryResolver of(CategoryTree tree) {
+        return new KdcCategoryResolver(tree);
+    }
+
+    // 맞는 카테고리가 없으면 KdcCode.NONE
+    public long resolve(long code) {
+        return KdcCode.isValid(code) ? categoryIdByCode[(int) code] : KdcCode.NONE;
+    }
+}
@@ -0,0 +1,58 @@
+package com.nhnacademy.book.category;
+
+// 한국십진분류(KDC) 코드 규칙
+// 코드는 0~999 숫자이고, 세 자리 문자열("000", "010", "813")로 봐야 계층이 보입니다.
+// X00(류) -> XY0(강) -> XYZ(목) 이므로 한 카테고리의 하위는 항상 연속된 코드 범위입니다.
+public final class KdcCode {
+
+    public static final long MIN = 0;
+    public static final long MAX = 999;
+
+    // 최상위라서 부모가 없음
+    public static final long NONE = -1;
+
+    private KdcCode() {
+    }
+
+    public static boolean isValid(long code) {
+        return code >= MIN && code <= MAX;
+    }
+
+    // X00 -> 없음, XY0 -> X00, XYZ -> XY0
+    // "000", "010" 도 숫자로는 0, 10 이므로 자릿수가 아니라 나머지로 판단합니다.
+    public static long parentOf(long code) {
+        if (code % 100 == 0) {
+            return NONE;
+        }
+        if (code % 10 == 0) {
+            return code / 100 * 100;
+        }
+        return code / 10 * 10;
+    }
+
+    // 도서 CSV 의 분류기호("813.6", "813") -> 813
+    // 앞 세 자리가 숫자가 아니거나, 네 자리 이상 숫자면 NONE
+    public static long parse(String value) {
+        if (value.length() < 3) {
+            return NONE;
+        }
+
+        long code = 0;
+        for (int i = 0; i < 3; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return NONE;
+            }
+            code = code * 10 + digit;
+        }
+
+        if (value.length() > 3 && Character.isDigit(value.charAt(3))) {
+            return NONE;
+        }
+        return code;
+    }
+
+    public static String format(long code) {
+        return String.format("%03d", code);
+    }
+}
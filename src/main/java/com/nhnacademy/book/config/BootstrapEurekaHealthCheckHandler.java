@@ -0,0 +1,33 @@
+package com.nhnacademy.book.config;
+
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.nhnacademy.book.parser.CsvParser;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.SimpleStatusAggregator;
+import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.netflix.eureka.EurekaHealthCheckHandler;
+import org.springframework.stereotype.Component;
+
+// 부팅 시 초기 적재가 끝날 때까지 Eureka 에 STARTING 으로 보고합니다. (다른 서비스가 이 인스턴스로 요청을 보내지 않음)
+// 적재가 끝나면 기본 EurekaHealthCheckHandler 처럼 health 상태를 그대로 보고합니다.
+// HealthCheckHandler 빈이 있으면 기본 핸들러는 등록되지 않으므로 eureka.client.healthcheck.enabled=true 일 때 대신 씁니다.
+@Component
+@ConditionalOnProperty(value = "eureka.client.healthcheck.enabled", havingValue = "true")
+public class BootstrapEurekaHealthCheckHandler extends EurekaHealthCheckHandler {
+
+    private final CsvParser csvParser;
+
+    public BootstrapEurekaHealthCheckHandler(ObjectProvider<StatusAggregator> statusAggregator, CsvParser csvParser) {
+        super(statusAggregator.getIfAvailable(SimpleStatusAggregator::new));
+        this.csvParser = csvParser;
+    }
+
+    @Override
+    public InstanceStatus getStatus(InstanceStatus instanceStatus) {
+        if (csvParser.isImporting()) {
+            return InstanceStatus.STARTING;
+        }
+        return super.getStatus(instanceStatus);
+    }
+}
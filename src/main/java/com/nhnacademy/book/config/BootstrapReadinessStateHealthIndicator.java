@@ -0,0 +1,31 @@
+package com.nhnacademy.book.config;
+
+import com.nhnacademy.book.parser.CsvParser;
+import org.springframework.boot.actuate.availability.ReadinessStateHealthIndicator;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.stereotype.Component;
+
+// 부팅 시 초기 적재가 끝날 때까지 readiness 를 REFUSING_TRAFFIC 으로 보고합니다.
+// 기본 readinessStateHealthIndicator 와 같은 이름으로 등록해서 대체합니다. (liveness 는 그대로)
+// /actuator/health/readiness 는 application.properties 의 management.endpoint.health.probes.enabled=true 로 노출합니다.
+// Eureka 쪽은 BootstrapEurekaHealthCheckHandler 가 같은 조건으로 STARTING 을 보고합니다.
+@Component("readinessStateHealthIndicator")
+public class BootstrapReadinessStateHealthIndicator extends ReadinessStateHealthIndicator {
+
+    private final CsvParser csvParser;
+
+    public BootstrapReadinessStateHealthIndicator(ApplicationAvailability availability, CsvParser csvParser) {
+        super(availability);
+        this.csvParser = csvParser;
+    }
+
+    @Override
+    protected AvailabilityState getState(ApplicationAvailability applicationAvailability) {
+        if (csvParser.isImporting()) {
+            return ReadinessState.REFUSING_TRAFFIC;
+        }
+        return super.getState(applicationAvailability);
+    }
+}
@@ -1,8 +1,13 @@
 package com.nhnacademy.book.controller;
 
+import com.nhnacademy.book.dto.BookBatchRequest;
+import com.nhnacademy.book.dto.BookBatchResponse;
 import com.nhnacademy.book.dto.BookCreateRequest;
 import com.nhnacademy.book.dto.BookDetailResponse;
 import com.nhnacademy.book.dto.BookListResponse;
+import com.nhnacademy.book.dto.BookSearchResponse;
+import com.nhnacademy.book.dto.BookSliceResponse;
+import com.nhnacademy.book.dto.BookSuggestResponse;
 import com.nhnacademy.book.dto.BookUpdateRequest;
 import com.nhnacademy.book.service.BookService;
 import lombok.RequiredArgsConstructor;
@@ -23,14 +28,51 @@ public class BookController {
 
     // 1. 도서 목록 조회 API (BookListResponse 반환)
     // GET /api/books?page=0&size=20
+    // GET /api/books?category=800&page=0&size=20 (하위 카테고리 포함)
     @GetMapping
     public ResponseEntity<Page<BookListResponse>> getBooks(
+            @RequestParam(required = false) Long category,
             @PageableDefault(size = 20, sort = "bookId", direction = Sort.Direction.DESC) Pageable pageable) {
 
+        if (category != null) {
+            return ResponseEntity.ok(bookService.getBooksByCategory(category, pageable));
+        }
+
         // Service는 List DTO를 반환하며, 가벼운 데이터만 전송됩니다.
         return ResponseEntity.ok(bookService.getBooks(pageable));
     }
 
+    // 1-1. 커서 방식 도서 목록 조회 API (무한 스크롤용, 전체 개수 없음)
+    // GET /api/books?after=&size=20           -> 첫 페이지
+    // GET /api/books?after={nextCursor}&size=20 -> 다음 페이지
+    @GetMapping(params = "after")
+    public ResponseEntity<BookSliceResponse> getBooksAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(bookService.getBooksAfter(after, size));
+    }
+
+    // 1-2. 도서 검색 API (제목/소개글, 관련도 순)
+    // GET /api/books/search?q=자바&size=20
+    @GetMapping("/search")
+    public ResponseEntity<BookSearchResponse> searchBooks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(bookService.searchBooks(q, size));
+    }
+
+    // 1-3. 검색창 자동완성 API (제목/저자/출판사, 초성 검색 가능: ㅎㄱ -> 한강)
+    // GET /api/books/suggest?prefix=자바&size=10
+    @GetMapping("/suggest")
+    public ResponseEntity<BookSuggestResponse> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(bookService.suggest(prefix, size));
+    }
+
     // 2. 도서 상세 조회 API (BookDetailResponse 반환)
     // GET /api/books/{bookId}
     @GetMapping("/{bookId}")
@@ -40,6 +82,20 @@ public class BookController {
         return ResponseEntity.ok(bookService.getBook(bookId));
     }
 
+    // 2-1. ISBN 으로 도서 상세 조회 API (주문/제휴사 연동용, 체크섬이 틀리면 400)
+    // GET /api/books/isbn/9788936434120
+    @GetMapping("/isbn/{isbn}")
+    public ResponseEntity<BookDetailResponse> getBookByIsbn(@PathVariable String isbn) {
+        return ResponseEntity.ok(bookService.getBookByIsbn(isbn));
+    }
+
+    // 2-2. 도서 여러 건 조회 API (장바구니/주문 서비스가 항목마다 상세 조회를 부르지 않도록)
+    // POST /api/books/batch  {"bookIds": [1, 2, 3]} 또는 {"isbns": ["9788936434120"]}
+    @PostMapping("/batch")
+    public ResponseEntity<BookBatchResponse> getBooks(@RequestBody BookBatchRequest request) {
+        return ResponseEntity.ok(bookService.getBooks(request));
+    }
+
     // 3. 도서 등록 API (BookCreateRequest 요청)
     // POST /api/books
     @PostMapping
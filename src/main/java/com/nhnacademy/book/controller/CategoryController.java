@@ -0,0 +1,35 @@
+package com.nhnacademy.book.controller;
+
+import com.nhnacademy.book.dto.CategoryResponse;
+import com.nhnacademy.book.dto.CategoryTreeResponse;
+import com.nhnacademy.book.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    // 1. 카테고리 트리 조회 API
+    // GET /api/categories
+    @GetMapping
+    public ResponseEntity<List<CategoryTreeResponse>> getCategoryTree() {
+        return ResponseEntity.ok(categoryService.getCategoryTree());
+    }
+
+    // 2. 카테고리 단건 조회 API (상위 경로, 하위 카테고리 포함)
+    // GET /api/categories/{categoryId}
+    @GetMapping("/{categoryId}")
+    public ResponseEntity<CategoryResponse> getCategory(@PathVariable Long categoryId) {
+        return ResponseEntity.ok(categoryService.getCategory(categoryId));
+    }
+}
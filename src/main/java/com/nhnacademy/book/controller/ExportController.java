@@ -0,0 +1,60 @@
+package com.nhnacademy.book.controller;
+
+import com.nhnacademy.book.dto.ExportFormat;
+import com.nhnacademy.book.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+// 카탈로그 전체 내보내기 API (야간 배치용)
+@RestController
+@RequestMapping("/api/books/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    // 1. 카탈로그 내보내기 API
+    // GET /api/books/export?format=ndjson
+    // GET /api/books/export?format=csv&gzip=true
+    // 응답을 메모리에 모으지 않고 DB 에서 읽는 대로 흘려보냅니다.
+    // 비동기 응답이라 spring.mvc.async.request-timeout 이 전체 전송 시간의 상한입니다. (application.properties)
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        // 1. 형식 확인은 스트리밍을 시작하기 전에 (잘못된 형식이면 InvalidExportFormatException -> 400)
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        // 2. 본문은 응답 스트림에 바로 씁니다. (gzip 이면 그 위에 압축만 얹음)
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024, true);
+                exportService.exportBooks(exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                exportService.exportBooks(exportFormat, out);
+            }
+        };
+
+        // gzip 은 전송 인코딩(Content-Encoding)이므로 파일 이름은 그대로입니다. (curl --compressed 등이 풀어서 저장)
+        String filename = "books." + exportFormat.getExtension();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,56 @@
+package com.nhnacademy.book.controller;
+
+import com.nhnacademy.book.dto.ImportJobRequest;
+import com.nhnacademy.book.dto.ImportJobResponse;
+import com.nhnacademy.book.job.ImportType;
+import com.nhnacademy.book.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/imports")
+@RequiredArgsConstructor
+public class ImportJobController {
+
+    private final ImportJobService importJobService;
+
+    // 1. CSV 업로드로 적재 작업 등록 (백그라운드 실행, 202 Accepted)
+    // POST /api/admin/imports?type=BOOK (multipart: file)
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> uploadImport(@RequestParam ImportType type,
+                                                          @RequestPart("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobService.submitUpload(type, file));
+    }
+
+    // 2. 서버 파일 경로로 적재 작업 등록
+    // POST /api/admin/imports {"type": "BOOK", "path": "/data/book.csv"}
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportJobResponse> pathImport(@RequestBody ImportJobRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(importJobService.submitPath(request.getType(), request.getPath()));
+    }
+
+    // 3. 작업 목록
+    @GetMapping
+    public ResponseEntity<List<ImportJobResponse>> getJobs() {
+        return ResponseEntity.ok(importJobService.getJobs());
+    }
+
+    // 4. 작업 상태 (읽은 행, 저장한 행, 거부 행, rows/s, ETA)
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(importJobService.getJob(jobId));
+    }
+
+    // 5. 작업 취소
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> cancel(@PathVariable String jobId) {
+        return ResponseEntity.ok(importJobService.cancel(jobId));
+    }
+}
@@ -0,0 +1,27 @@
+package com.nhnacademy.book.controller;
+
+import com.nhnacademy.book.dto.RepriceRequest;
+import com.nhnacademy.book.dto.RepriceResponse;
+import com.nhnacademy.book.service.PriceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 프로모션용 판매가 일괄 변경 API
+@RestController
+@RequestMapping("/api/books/prices")
+@RequiredArgsConstructor
+public class PriceController {
+
+    private final PriceService priceService;
+
+    // 1. 판매가 일괄 변경 API (변경된 행 수와 걸린 시간 반환)
+    // POST /api/books/prices/bulk
+    @PostMapping("/bulk")
+    public ResponseEntity<RepriceResponse> reprice(@RequestBody RepriceRequest request) {
+        return ResponseEntity.ok(priceService.reprice(request));
+    }
+}
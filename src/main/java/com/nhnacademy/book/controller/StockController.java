@@ -0,0 +1,35 @@
+package com.nhnacademy.book.controller;
+
+import com.nhnacademy.book.dto.StockRequest;
+import com.nhnacademy.book.service.StockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 주문 서비스용 재고 API
+@RestController
+@RequestMapping("/api/books/stock")
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockService stockService;
+
+    // 1. 재고 차감 API (하나라도 부족하면 409 Conflict, 전체 차감 취소)
+    // POST /api/books/stock/reserve
+    @PostMapping("/reserve")
+    public ResponseEntity<Void> reserve(@RequestBody StockRequest request) {
+        stockService.reserve(request);
+        return ResponseEntity.ok().build();
+    }
+
+    // 2. 재고 복구 API (주문 취소/반품)
+    // POST /api/books/stock/release
+    @PostMapping("/release")
+    public ResponseEntity<Void> release(@RequestBody StockRequest request) {
+        stockService.release(request);
+        return ResponseEntity.ok().build();
+    }
+}
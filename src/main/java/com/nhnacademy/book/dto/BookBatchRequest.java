@@ -0,0 +1,16 @@
+package com.nhnacademy.book.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookBatchRequest {
+    // 둘 중 하나만 보내도 됩니다. (합쳐서 최대 500건)
+    private List<Long> bookIds;
+    private List<String> isbns;
+}
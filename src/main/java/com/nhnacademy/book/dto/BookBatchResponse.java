@@ -0,0 +1,15 @@
+package com.nhnacademy.book.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BookBatchResponse {
+    // 요청 순서 그대로 (bookIds -> isbns 순, 중복은 한 번만)
+    private List<BookDetailResponse> books;
+    private List<Long> missingBookIds;
+    private List<String> missingIsbns;
+}
@@ -2,12 +2,16 @@ package com.nhnacademy.book.dto;
 
 import com.nhnacademy.book.entity.Book;
 import com.nhnacademy.book.entity.BookState;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+// BookRepository 의 목록 쿼리가 생성자 프로젝션(select new ...)으로 바로 만듭니다. (필드 순서 = 생성자 인자 순서)
 @Getter
 @Builder
+@AllArgsConstructor
 public class BookListResponse {
+    private Long bookId;
     private String bookName;
     private String bookPublisher;
     private boolean bookPackaging;
@@ -20,8 +24,9 @@ public class BookListResponse {
 
     public static BookListResponse from(Book book) {
         return BookListResponse.builder()
+                .bookId(book.getBookId())
                 .bookName(book.getBookName())
-//                .bookPublisher(book.getBookPublisher())
+                .bookPublisher(book.getPublisher() != null ? book.getPublisher().getPublisherName() : null)
                 .bookPackaging(book.isBookPackaging())
                 .bookState(book.getBookState())
                 .bookStock(book.getBookStock())
@@ -0,0 +1,16 @@
+package com.nhnacademy.book.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 도서 검색 응답 (관련도 순)
+@Getter
+@Builder
+public class BookSearchResponse {
+    private String query;
+    // 검색어를 모두 포함한 도서 수 (books 는 그중 상위 size 건)
+    private long totalHits;
+    private List<BookListResponse> books;
+}
@@ -0,0 +1,41 @@
+package com.nhnacademy.book.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// 커서(keyset) 방식 도서 목록 응답
+// 전체 개수(count)를 세지 않고, 다음 페이지가 있는지와 다음 커서만 돌려줍니다.
+@Getter
+@Builder
+public class BookSliceResponse {
+    private List<BookListResponse> content;
+    private int size;
+    private boolean hasNext;
+    // 다음 페이지 요청 시 ?after= 로 그대로 넘기는 값 (마지막 페이지면 null)
+    private String nextCursor;
+
+    // 커서는 마지막 bookId 를 감싼 불투명 토큰입니다. (클라이언트가 id 로 해석하지 않도록)
+    public static String encodeCursor(long bookId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(bookId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // 비어있으면 첫 페이지 (null 반환)
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(cursor.trim());
+            return Long.parseLong(new String(decoded, StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 도 IllegalArgumentException 입니다.
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
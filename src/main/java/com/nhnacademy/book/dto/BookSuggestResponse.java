@@ -0,0 +1,18 @@
+package com.nhnacademy.book.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 검색창 자동완성 응답 (인기 순)
+@Getter
+@Builder
+public class BookSuggestResponse {
+    private String prefix;
+    private List<Suggestion> suggestions;
+
+    // type: TITLE / AUTHOR / PUBLISHER
+    public record Suggestion(String text, String type) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.nhnacademy.book.dto;
+
+import com.nhnacademy.book.category.CategoryTree;
+import com.nhnacademy.book.category.KdcCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CategoryResponse {
+    private Long categoryId;
+    private String code;
+    private String categoryName;
+    private Long parentId;
+    // 최상위부터 자기 자신까지
+    private List<CategorySummary> path;
+    private List<CategorySummary> children;
+
+    public record CategorySummary(Long categoryId, String code, String categoryName) {
+    }
+
+    public static CategoryResponse from(CategoryTree tree, long categoryId) {
+        return CategoryResponse.builder()
+                .categoryId(categoryId)
+                .code(KdcCode.format(categoryId))
+                .categoryName(tree.getName(categoryId))
+                .parentId(tree.getParentId(categoryId))
+                .path(summaries(tree, tree.getPath(categoryId)))
+                .children(summaries(tree, tree.getChildIds(categoryId)))
+                .build();
+    }
+
+    private static List<CategorySummary> summaries(CategoryTree tree, List<Long> categoryIds) {
+        return categoryIds.stream()
+                .map(id -> new CategorySummary(id, KdcCode.format(id), tree.getName(id)))
+                .toList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.nhnacademy.book.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CategoryTreeResponse {
+    private Long categoryId;
+    private String code;
+    private String categoryName;
+    private List<CategoryTreeResponse> children;
+}
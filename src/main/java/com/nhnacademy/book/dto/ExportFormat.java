@@ -0,0 +1,30 @@
+package com.nhnacademy.book.dto;
+
+import com.nhnacademy.book.exception.InvalidExportFormatException;
+import lombok.Getter;
+
+import java.util.Locale;
+
+// 카탈로그 내보내기 형식
+@Getter
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    // ?format=ndjson / csv (대소문자 무시, 그 밖의 값은 InvalidExportFormatException -> 400)
+    public static ExportFormat from(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidExportFormatException(format);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.nhnacademy.book.dto;
+
+import com.nhnacademy.book.job.ImportType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImportJobRequest {
+    private ImportType type;
+    // 서버에 있는 CSV 파일 경로
+    private String path;
+}
@@ -0,0 +1,51 @@
+package com.nhnacademy.book.dto;
+
+import com.nhnacademy.book.job.ImportJob;
+import com.nhnacademy.book.job.ImportJobStatus;
+import com.nhnacademy.book.job.ImportType;
+import com.nhnacademy.book.parser.ImportProgress;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ImportJobResponse {
+    private String jobId;
+    private ImportType type;
+    private String fileName;
+    private ImportJobStatus status;
+    private long rowsRead;
+    private long rowsWritten;
+    private long rejects;
+    // 기본값으로 바꿔서 저장한 잘못된 값 수 (출판일, 가격 등)
+    private long badValues;
+    private long rowsPerSecond;
+    private long etaSeconds;
+    private long elapsedMillis;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+
+    public static ImportJobResponse from(ImportJob job) {
+        ImportProgress progress = job.getProgress();
+
+        return ImportJobResponse.builder()
+                .jobId(job.getJobId())
+                .type(job.getType())
+                .fileName(job.getFileName())
+                .status(job.getStatus())
+                .rowsRead(progress.getRowsRead())
+                .rowsWritten(progress.getRowsWritten())
+                .rejects(progress.getRejects())
+                .badValues(progress.getBadData().getTotal())
+                .rowsPerSecond(progress.getRowsPerSecond())
+                .etaSeconds(job.isFinished() ? 0 : progress.getEtaSeconds())
+                .elapsedMillis(progress.getElapsedMillis())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.nhnacademy.book.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 판매가 일괄 변경 요청 (대상은 bookIds / categoryId / publisherId 중 하나)
+@Getter
+@Setter
+@NoArgsConstructor
+public class RepriceRequest {
+    private double discountRate;
+
+    private List<Long> bookIds;
+    // 하위 카테고리 포함
+    private Long categoryId;
+    private Long publisherId;
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.book.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RepriceResponse {
+    private long affectedRows;
+    private int chunks;
+    private long elapsedMillis;
+}
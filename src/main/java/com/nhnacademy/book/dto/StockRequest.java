@@ -0,0 +1,25 @@
+package com.nhnacademy.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 재고 차감/복구 요청 (주문 한 건의 여러 도서를 한 번에)
+@Getter
+@Setter
+@NoArgsConstructor
+public class StockRequest {
+    private List<Item> items;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long bookId;
+        private int quantity;
+    }
+}
@@ -40,9 +40,10 @@ public class Book {
     @CsvBindByName(column = "BOOK_INTRCN_CN")
     private String bookDescription;
 
-//    // 출판사 -> 테이블 분리
-//    @CsvBindByName(column = "PUBLISHER_NM")
-//    private String bookPublisher;
+    // 출판사
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "publisher_id")
+    private Publisher publisher;
 
     //출판 일시
     @CsvCustomBindByName(
@@ -60,7 +61,9 @@ public class Book {
     @Enumerated(EnumType.STRING)
     private BookState bookState;
 
-    // 재고
+    // 재고 -> 엔티티 flush 로는 쓰지 않고 BookRepository 의 조건부 update 로만 바꿉니다.
+    // (Hibernate 는 기본으로 모든 컬럼을 update 하므로, 그대로 두면 동시에 들어온 주문 차감을 덮어씁니다)
+    @Column(updatable = false)
     private int bookStock;
 
     // 정가
@@ -79,4 +82,7 @@ public class Book {
     // 책 이미지 -> 파일 테이블에 따로 빼기?
     @CsvBindByName(column = "IMAGE_URL")
     private String bookImage;
+
+    // CSV 행 해시 -> 증분 적재 시 변경 여부 비교용
+    private Long importHash;
 }
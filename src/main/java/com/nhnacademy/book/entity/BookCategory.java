@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
+// 카테고리(하위 포함) 도서 목록은 category_id 구간 스캔 후 book_id 만 쓰므로 두 컬럼을 묶어서 인덱스를 겁니다.
+@Table(indexes = @Index(columnList = "category_id, book_id"))
 public class BookCategory {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,22 @@
+package com.nhnacademy.book.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 카탈로그(도서/카테고리/저자/출판사) 변경 세대 행
+// 카탈로그를 바꾸는 트랜잭션마다 같은 트랜잭션 안에서 1 씩 올립니다. (CatalogGenerationCounter 가 조건부 UPDATE/INSERT 로 처리)
+// 스냅샷 헤더에 같이 적어 두고, 부팅 때 DB 값과 비교해서 제목/가격만 바뀐 오래된 스냅샷도 거릅니다.
+@Getter
+@NoArgsConstructor
+@Entity
+public class CatalogGeneration {
+    @Id
+    @Column(length = 100)
+    private String generationName;
+
+    @Column(nullable = false)
+    private long generation;
+}
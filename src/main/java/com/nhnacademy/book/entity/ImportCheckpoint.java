@@ -0,0 +1,37 @@
+package com.nhnacademy.book.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 도서 CSV 적재 체크포인트 (파일 내용이 같으면 같은 체크포인트에서 이어서 적재)
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+public class ImportCheckpoint {
+    // 파일 SHA-256
+    @Id
+    @Column(length = 64)
+    private String fileDigest;
+
+    private String fileName;
+
+    // 여기까지의 데이터 행은 모두 저장 완료 (헤더 제외, 1부터)
+    private long lastRow;
+
+    private boolean completed;
+
+    private LocalDateTime updatedAt;
+
+    public ImportCheckpoint(String fileDigest, String fileName) {
+        this.fileDigest = fileDigest;
+        this.fileName = fileName;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.book.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 여러 노드 중 한 노드만 적재하도록 잡는 DB 임대(lease) 행
+// 갱신/획득은 ImportLeaseManager 가 조건부 UPDATE/INSERT 로 처리합니다.
+@Getter
+@NoArgsConstructor
+@Entity
+public class ImportLease {
+    @Id
+    @Column(length = 100)
+    private String leaseName;
+
+    // 임대를 가진 노드 (pid@host:랜덤)
+    @Column(nullable = false)
+    private String owner;
+
+    // 이 시각이 지나면 다른 노드가 가져갈 수 있습니다. (DB 시각 기준)
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -12,6 +14,7 @@ import java.util.Objects;
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(columnList = "publisher_name"))
 public class Publisher {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
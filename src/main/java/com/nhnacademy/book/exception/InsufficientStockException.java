@@ -0,0 +1,19 @@
+package com.nhnacademy.book.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 재고 부족 (409 Conflict)
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class InsufficientStockException extends RuntimeException {
+    private final Long bookId;
+    private final int requested;
+
+    public InsufficientStockException(Long bookId, int requested) {
+        super("재고가 부족합니다. ID: " + bookId + ", 요청 수량: " + requested);
+        this.bookId = bookId;
+        this.requested = requested;
+    }
+}
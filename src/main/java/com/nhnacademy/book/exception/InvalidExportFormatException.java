@@ -0,0 +1,17 @@
+package com.nhnacademy.book.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 지원하지 않는 내보내기 형식 (400 Bad Request)
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidExportFormatException extends IllegalArgumentException {
+    private final String format;
+
+    public InvalidExportFormatException(String format) {
+        super("지원하지 않는 내보내기 형식입니다: " + format + " (ndjson, csv)");
+        this.format = format;
+    }
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.book.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 형식이나 체크섬이 틀린 ISBN (400 Bad Request)
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidIsbnException extends IllegalArgumentException {
+    private final String isbn;
+
+    public InvalidIsbnException(String isbn) {
+        super("잘못된 ISBN 입니다: " + isbn);
+        this.isbn = isbn;
+    }
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.book.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 조회한 뒤 재고가 바뀌어서 수정하지 못함 (409 Conflict)
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class StockChangedException extends RuntimeException {
+    private final Long bookId;
+    private final int expectedStock;
+
+    public StockChangedException(Long bookId, int expectedStock) {
+        super("재고가 그 사이 변경되었습니다. 다시 조회한 뒤 수정해 주세요. ID: " + bookId + ", 조회한 재고: " + expectedStock);
+        this.bookId = bookId;
+        this.expectedStock = expectedStock;
+    }
+}
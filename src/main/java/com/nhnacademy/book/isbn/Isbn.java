@@ -0,0 +1,109 @@
+package com.nhnacademy.book.isbn;
+
+import com.nhnacademy.book.exception.InvalidIsbnException;
+
+// ISBN <-> long 변환
+// ISBN-13 은 숫자 13 자리라 long 하나에 그대로 들어갑니다. (978/979 로 시작하므로 0 이 될 수 없음)
+// ISBN-10 은 978 을 붙이고 체크 숫자를 다시 계산해서 ISBN-13 으로 바꿉니다.
+public final class Isbn {
+
+    // 잘못된 ISBN (parseOrInvalid 반환값)
+    public static final long INVALID = 0L;
+
+    private Isbn() {
+    }
+
+    // 하이픈/공백은 무시합니다. 형식이나 체크섬이 틀리면 InvalidIsbnException
+    public static long parse(String text) {
+        long isbn = parseOrInvalid(text);
+        if (isbn == INVALID) {
+            throw new InvalidIsbnException(text);
+        }
+        return isbn;
+    }
+
+    // 적재된 데이터처럼 잘못된 값이 섞여 있을 때 예외 없이 INVALID 를 돌려줍니다.
+    public static long parseOrInvalid(String text) {
+        if (text == null) {
+            return INVALID;
+        }
+
+        char[] digits = new char[13];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+            if (length == 13) {
+                return INVALID;
+            }
+            digits[length++] = c;
+        }
+
+        if (length == 13) {
+            return parse13(digits);
+        }
+        if (length == 10) {
+            return parse10(digits);
+        }
+        return INVALID;
+    }
+
+    public static String format(long isbn) {
+        return Long.toString(isbn);
+    }
+
+    // 가중치 1, 3 을 번갈아 곱한 합이 10 의 배수
+    private static long parse13(char[] digits) {
+        long value = 0;
+        int sum = 0;
+        for (int i = 0; i < 13; i++) {
+            int digit = digits[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            sum += (i % 2 == 0) ? digit : digit * 3;
+            value = value * 10 + digit;
+        }
+        if (sum % 10 != 0 || (value / 10_000_000_000L != 978 && value / 10_000_000_000L != 979)) {
+            return INVALID;
+        }
+        return value;
+    }
+
+    // 가중치 10..1 을 곱한 합이 11 의 배수 (마지막 자리는 X = 10 가능)
+    private static long parse10(char[] digits) {
+        long body = 978;
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            char c = digits[i];
+            int digit;
+            if (i == 9 && (c == 'X' || c == 'x')) {
+                digit = 10;
+            } else {
+                digit = c - '0';
+                if (digit < 0 || digit > 9) {
+                    return INVALID;
+                }
+            }
+            sum += digit * (10 - i);
+            if (i < 9) {
+                body = body * 10 + digit;
+            }
+        }
+        if (sum % 11 != 0) {
+            return INVALID;
+        }
+
+        // 978 + 앞 9 자리에 ISBN-13 체크 숫자를 새로 붙입니다.
+        int checkSum = 0;
+        long rest = body;
+        for (int i = 11; i >= 0; i--) {
+            int digit = (int) (rest % 10);
+            rest /= 10;
+            checkSum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return body * 10 + (10 - checkSum % 10) % 10;
+    }
+}
@@ -0,0 +1,142 @@
+package com.nhnacademy.book.isbn;
+
+import com.nhnacademy.book.job.CatalogImportedEvent;
+import com.nhnacademy.book.job.ImportType;
+import com.nhnacademy.book.snapshot.CatalogSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// ISBN-13 -> bookId 메모리 색인
+// 키는 ISBN 을 long 으로 바꾼 값이고 원시 타입 맵에 넣으므로, 수백만 권이어도 String/Long 객체가 생기지 않습니다.
+// 조회가 대부분이고 등록은 드물어서 읽기/쓰기 잠금으로 감쌉니다.
+@Slf4j
+@Component
+public class IsbnIndex {
+
+    private static final String SELECT_ISBNS = "select book_id, isbn from book where isbn is not null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private LongLongHashMap map = new LongLongHashMap(16);
+
+    public IsbnIndex(JdbcTemplate jdbcTemplate, @Value("${book.search.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @EventListener
+    public void onImported(CatalogImportedEvent event) {
+        if (event.type() == ImportType.BOOK) {
+            rebuild();
+        }
+    }
+
+    // 없으면 null
+    public Long findBookId(long isbn) {
+        lock.readLock().lock();
+        try {
+            long bookId = map.get(isbn);
+            return bookId == LongLongHashMap.MISSING ? null : bookId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 등록 시 호출합니다. 트랜잭션 안이면 커밋된 뒤에만 넣습니다. (롤백된 도서가 조회되지 않도록)
+    public void put(String isbn, Long bookId) {
+        long key = Isbn.parseOrInvalid(isbn);
+        if (key == Isbn.INVALID || bookId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putNow(key, bookId);
+                }
+            });
+        } else {
+            putNow(key, bookId);
+        }
+    }
+
+    // 다른 노드에서 등록된 도서처럼 색인에 없던 것을 DB 에서 찾았을 때 채워 넣습니다.
+    public void putNow(long isbn, long bookId) {
+        lock.writeLock().lock();
+        try {
+            map.put(isbn, bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 새 맵을 잠금 없이 만든 뒤 쓰기 잠금 안에서 바꿉니다. (만드는 동안에도 조회는 예전 맵으로)
+    // 만드는 도중에 등록된 도서가 빠지더라도, 조회에서 색인에 없으면 DB 를 한 번 보고 다시 채웁니다.
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+
+        Long count = jdbcTemplate.queryForObject("select count(*) from book", Long.class);
+        LongLongHashMap built = new LongLongHashMap(count == null ? 16 : (int) Math.min(count, Integer.MAX_VALUE / 4));
+        long[] invalid = new long[1];
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ISBNS);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            long isbn = Isbn.parseOrInvalid(rs.getString(2));
+            if (isbn == Isbn.INVALID) {
+                invalid[0]++;
+            } else {
+                built.put(isbn, rs.getLong(1));
+            }
+        });
+
+        install(built, invalid[0], "DB", startedAt);
+    }
+
+    // 카탈로그 스냅샷에서 만듭니다. (ISBN 은 스냅샷에 이미 long 으로 들어 있음, 잘못된 값은 0)
+    public synchronized void load(CatalogSnapshot snapshot) throws IOException {
+        long startedAt = System.nanoTime();
+
+        LongLongHashMap built = new LongLongHashMap((int) Math.min(snapshot.getBookCount(), Integer.MAX_VALUE / 4));
+        long invalid = 0;
+
+        CatalogSnapshot.BookCursor books = snapshot.books();
+        while (books.next()) {
+            if (books.isbn() == Isbn.INVALID) {
+                invalid++;
+            } else {
+                built.put(books.isbn(), books.bookId());
+            }
+        }
+
+        install(built, invalid, "스냅샷", startedAt);
+    }
+
+    private void install(LongLongHashMap built, long invalid, String source, long startedAt) {
+        lock.writeLock().lock();
+        try {
+            map = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("[ISBN] ISBN 색인 생성({}): {} 건, 잘못된 ISBN {} 건, 약 {} KB ({} ms)",
+                source, built.size(), invalid, built.capacityBytes() / 1024, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
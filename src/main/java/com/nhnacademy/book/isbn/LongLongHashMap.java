@@ -0,0 +1,103 @@
+package com.nhnacademy.book.isbn;
+
+// long -> long 오픈 어드레싱 해시 맵 (선형 탐사, 박싱 없음)
+// 키 0 은 빈 칸 표시로 쓰므로 넣을 수 없습니다. (ISBN-13 은 0 이 될 수 없음)
+// 동기화하지 않습니다. (IsbnIndex 가 잠금으로 감쌈)
+public final class LongLongHashMap {
+
+    public static final long MISSING = -1L;
+
+    private static final long EMPTY = 0L;
+    private static final double LOAD_FACTOR = 0.6;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 없으면 MISSING
+    public long get(long key) {
+        // 0 은 빈 칸과 같으므로 그대로 찾으면 빈 칸의 값(0)을 돌려주게 됩니다.
+        if (key == EMPTY) {
+            return MISSING;
+        }
+
+        int slot = slot(key);
+        while (true) {
+            long existing = keys[slot];
+            if (existing == key) {
+                return values[slot];
+            }
+            if (existing == EMPTY) {
+                return MISSING;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public void put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("0 은 키로 쓸 수 없습니다.");
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            resize();
+        }
+    }
+
+    // 메모리 사용량 (배열 두 개)
+    public long capacityBytes() {
+        return (long) keys.length * Long.BYTES * 2;
+    }
+
+    private int slot(long key) {
+        // 피보나치 해싱: ISBN 은 앞자리가 거의 같으므로 비트를 고르게 섞습니다.
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+}
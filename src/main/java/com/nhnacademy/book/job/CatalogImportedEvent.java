@@ -0,0 +1,6 @@
+package com.nhnacademy.book.job;
+
+// 적재 작업이 끝났을 때 발행하는 이벤트 (카테고리 트리 등 메모리 캐시를 다시 만드는 용도)
+// 다른 노드가 먼저 적재해서 건너뛴 경우에도 발행합니다. (이 노드의 캐시는 아직 예전 데이터)
+public record CatalogImportedEvent(ImportType type) {
+}
@@ -0,0 +1,74 @@
+package com.nhnacademy.book.job;
+
+import com.nhnacademy.book.parser.ImportProgress;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+// 백그라운드 적재 작업 하나의 상태
+@Getter
+@Setter
+public class ImportJob {
+    private final String jobId;
+    private final ImportType type;
+    private final String fileName;
+    private final ImportProgress progress = new ImportProgress();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    // 임대를 얻은 뒤 다시 확인하는 실행 조건 (다른 노드가 먼저 적재했다면 false -> 건너뜀)
+    private final BooleanSupplier required;
+
+    // 업로드로 받은 임시 파일 (작업이 끝나면 지웁니다. 서버 경로/리소스 적재는 null)
+    private final Path tempFile;
+
+    // 상태는 start()/finish() 로만 바꿉니다. (취소 요청과 실행 스레드가 동시에 끝내려 할 수 있음)
+    @Setter(AccessLevel.NONE)
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    @Setter(AccessLevel.NONE)
+    private volatile LocalDateTime finishedAt;
+    @Setter(AccessLevel.NONE)
+    private volatile String errorMessage;
+    private volatile Future<?> future;
+
+    public ImportJob(String jobId, ImportType type, String fileName, BooleanSupplier required, Path tempFile) {
+        this.jobId = jobId;
+        this.type = type;
+        this.fileName = fileName;
+        this.required = required;
+        this.tempFile = tempFile;
+    }
+
+    public boolean isFinished() {
+        return status.isFinished();
+    }
+
+    // 대기 중일 때만 실행 중으로 바뀝니다. (그 사이 취소로 끝났으면 false)
+    public synchronized boolean start() {
+        if (status != ImportJobStatus.QUEUED) {
+            return false;
+        }
+        status = ImportJobStatus.RUNNING;
+        return true;
+    }
+
+    // 아직 시작하지 않은 작업만 취소로 끝냅니다. (이미 실행 중이면 파이프라인이 취소 플래그를 보고 멈춤)
+    public synchronized boolean cancelQueued() {
+        return status == ImportJobStatus.QUEUED && finish(ImportJobStatus.CANCELLED, null);
+    }
+
+    // 작업은 한 번만 끝납니다. 이미 끝났으면 false 를 돌려주고 아무것도 바꾸지 않습니다.
+    public synchronized boolean finish(ImportJobStatus status, String errorMessage) {
+        if (this.status.isFinished()) {
+            return false;
+        }
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+        return true;
+    }
+}
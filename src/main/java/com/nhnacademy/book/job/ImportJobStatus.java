@@ -0,0 +1,9 @@
+package com.nhnacademy.book.job;
+
+public enum ImportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,185 @@
+package com.nhnacademy.book.job;
+
+import com.nhnacademy.book.parser.ImportCancelledException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+// DB 행 하나(import_lease)로 노드 간 적재를 직렬화합니다.
+// 만료 시각은 모두 DB 시각(localtimestamp)으로 계산하므로 노드 간 시계 차이의 영향을 받지 않습니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImportLeaseManager {
+
+    // 내가 가진 임대이거나 만료된 임대면 가져옵니다.
+    private static final String TAKE_OVER = """
+            update import_lease
+               set owner = ?, expires_at = timestampadd(SECOND, ?, localtimestamp)
+             where lease_name = ? and (owner = ? or expires_at < localtimestamp)
+            """;
+
+    private static final String INSERT = """
+            insert into import_lease (lease_name, owner, expires_at)
+            values (?, ?, timestampadd(SECOND, ?, localtimestamp))
+            """;
+
+    private static final String RENEW = """
+            update import_lease
+               set expires_at = timestampadd(SECOND, ?, localtimestamp)
+             where lease_name = ? and owner = ?
+            """;
+
+    // 쓰기 트랜잭션의 첫 문장: 아직 내 임대이고 만료 전일 때만 만료 시각을 늘립니다.
+    // 갱신한 행은 트랜잭션이 끝날 때까지 잠기므로, 그 사이 다른 노드의 TAKE_OVER 는 커밋(= 만료 연장)을 기다렸다가 실패합니다.
+    private static final String FENCE = """
+            update import_lease
+               set expires_at = timestampadd(SECOND, ?, localtimestamp)
+             where lease_name = ? and owner = ? and expires_at > localtimestamp
+            """;
+
+    private static final String RELEASE = "delete from import_lease where lease_name = ? and owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "import-lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 임대 유지 시간 (이 시간 안에 갱신이 없으면 노드가 죽은 것으로 보고 다른 노드가 가져감)
+    @Value("${book.import.lease-ttl-seconds:60}")
+    private int ttlSeconds;
+
+    // 다른 노드가 적재 중일 때 다시 시도하는 간격
+    @Value("${book.import.lease-poll-seconds:5}")
+    private int pollSeconds;
+
+    public String getOwner() {
+        return owner;
+    }
+
+    // 임대를 얻을 때까지 기다립니다. 기다리는 중에 취소되면 null
+    // 임대를 얻은 뒤 갱신에 실패하면(다른 노드가 가져감) onLost 를 호출합니다.
+    public Lease acquire(String leaseName, BooleanSupplier cancelled, Runnable onLost) throws InterruptedException {
+        boolean logged = false;
+
+        while (!cancelled.getAsBoolean()) {
+            if (tryTake(leaseName)) {
+                log.info("[LEASE] 임대 획득: {} ({})", leaseName, owner);
+                return new Lease(leaseName, onLost);
+            }
+
+            if (!logged) {
+                log.info("[LEASE] 다른 노드가 적재 중입니다. 임대가 풀릴 때까지 기다립니다: {}", leaseName);
+                logged = true;
+            }
+            TimeUnit.SECONDS.sleep(pollSeconds);
+        }
+
+        return null;
+    }
+
+    private boolean tryTake(String leaseName) {
+        if (jdbcTemplate.update(TAKE_OVER, owner, ttlSeconds, leaseName, owner) == 1) {
+            return true;
+        }
+
+        try {
+            return jdbcTemplate.update(INSERT, leaseName, owner, ttlSeconds) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 행을 만들었고 아직 유효합니다.
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    // 얻은 임대. 유지 시간의 1/3 마다 갱신하고, close 시 반납합니다.
+    public final class Lease implements AutoCloseable {
+        private final String leaseName;
+        private final Runnable onLost;
+        private final ScheduledFuture<?> renewal;
+        private volatile boolean lost;
+
+        private Lease(String leaseName, Runnable onLost) {
+            this.leaseName = leaseName;
+            this.onLost = onLost;
+
+            long period = Math.max(1, ttlSeconds / 3);
+            this.renewal = heartbeat.scheduleAtFixedRate(this::renew, period, period, TimeUnit.SECONDS);
+        }
+
+        public boolean isLost() {
+            return lost;
+        }
+
+        // 적재의 쓰기 트랜잭션 안에서 첫 문장으로 호출합니다.
+        // 갱신 주기 사이에 임대가 만료되어 다른 노드가 가져갔다면, 이 트랜잭션은 커밋되지 않고 롤백됩니다.
+        public void fence() {
+            if (!lost && jdbcTemplate.update(FENCE, ttlSeconds, leaseName, owner) == 1) {
+                return;
+            }
+
+            log.warn("[LEASE] 쓰기 전에 임대를 잃은 것을 확인했습니다. 이 트랜잭션을 롤백합니다: {}", leaseName);
+            markLost();
+            throw new ImportCancelledException();
+        }
+
+        private void markLost() {
+            lost = true;
+            onLost.run();
+        }
+
+        private void renew() {
+            if (lost) {
+                return;
+            }
+
+            try {
+                if (jdbcTemplate.update(RENEW, ttlSeconds, leaseName, owner) == 1) {
+                    return;
+                }
+                log.warn("[LEASE] 임대를 잃었습니다. 적재를 중단합니다: {}", leaseName);
+            } catch (DataAccessException e) {
+                // 일시적인 DB 오류는 다음 주기에 다시 시도합니다. (유지 시간 안에 성공하면 임대 유지)
+                log.warn("[LEASE] 임대 갱신 실패: {} ({})", leaseName, e.getMessage());
+                return;
+            }
+
+            markLost();
+        }
+
+        @Override
+        public void close() {
+            renewal.cancel(false);
+
+            try {
+                jdbcTemplate.update(RELEASE, leaseName, owner);
+                log.info("[LEASE] 임대 반납: {}", leaseName);
+            } catch (DataAccessException e) {
+                // 반납에 실패해도 유지 시간이 지나면 다른 노드가 가져갑니다.
+                log.warn("[LEASE] 임대 반납 실패: {} ({})", leaseName, e.getMessage());
+            }
+        }
+    }
+}
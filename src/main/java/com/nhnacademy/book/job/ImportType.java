@@ -0,0 +1,5 @@
+package com.nhnacademy.book.job;
+
+public enum ImportType {
+    BOOK, CATEGORY
+}
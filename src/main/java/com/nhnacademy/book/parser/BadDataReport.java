@@ -0,0 +1,74 @@
+package com.nhnacademy.book.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 적재 한 번 동안 모은 잘못된 값 통계
+// 행마다 WARN 로그를 남기면 지저분한 파일에서는 로그가 적재 시간을 잡아먹으므로,
+// 종류별 건수와 앞쪽 몇 건의 샘플만 모았다가 적재가 끝난 뒤 한 번에 보고합니다.
+public class BadDataReport {
+
+    public enum Kind {
+        PUBLICATION_DATE("출판일"),
+        PRICE("가격"),
+        KDC("분류기호"),
+        UNKNOWN_CATEGORY("카테고리가 없는 분류기호");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // 종류별로 남기는 샘플 수
+    private static final int MAX_SAMPLES = 5;
+
+    private final AtomicLongArray counts = new AtomicLongArray(Kind.values().length);
+    private final List<List<String>> samples = new ArrayList<>();
+
+    public BadDataReport() {
+        for (int i = 0; i < Kind.values().length; i++) {
+            samples.add(new ArrayList<>(MAX_SAMPLES));
+        }
+    }
+
+    // 여러 변환 워커에서 동시에 호출됩니다. 샘플은 앞쪽 몇 건만 잠금을 잡고 저장합니다.
+    public void record(Kind kind, String isbn, String value) {
+        long count = counts.incrementAndGet(kind.ordinal());
+        if (count > MAX_SAMPLES) {
+            return;
+        }
+
+        List<String> kindSamples = samples.get(kind.ordinal());
+        synchronized (kindSamples) {
+            if (kindSamples.size() < MAX_SAMPLES) {
+                kindSamples.add("ISBN " + isbn + ": '" + value + "'");
+            }
+        }
+    }
+
+    public long getCount(Kind kind) {
+        return counts.get(kind.ordinal());
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    public List<String> getSamples(Kind kind) {
+        List<String> kindSamples = samples.get(kind.ordinal());
+        synchronized (kindSamples) {
+            return List.copyOf(kindSamples);
+        }
+    }
+}
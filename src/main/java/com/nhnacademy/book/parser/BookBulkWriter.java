@@ -0,0 +1,312 @@
+package com.nhnacademy.book.parser;
+
+import com.nhnacademy.book.entity.Book;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 대량 적재 전용 JDBC 배치 writer
+// IDENTITY 전략 엔티티는 Hibernate가 배치 INSERT를 하지 못하므로 JdbcTemplate로 직접 배치를 보냅니다.
+// MySQL은 JDBC URL에 rewriteBatchedStatements=true 를 주면 배치가 multi-row INSERT 한 문장으로 합쳐집니다.
+@Component
+@RequiredArgsConstructor
+public class BookBulkWriter {
+
+    private static final String INSERT_BOOK = """
+            insert into book (isbn, book_name, book_description, publisher_id, book_publication_date, book_index,
+                              book_packaging, book_state, book_stock, book_regular_price, book_sale_price,
+                              book_review_rate, book_image, import_hash)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 증분 적재 시에는 CSV에서 오는 값만 갱신합니다. (재고, 판매가, 상태 등 운영 중 바뀌는 값은 유지)
+    private static final String UPDATE_BOOK = """
+            update book
+               set book_name = ?, book_description = ?, publisher_id = ?, book_publication_date = ?,
+                   book_regular_price = ?, book_image = ?, import_hash = ?
+             where book_id = ?
+            """;
+
+    private static final String SELECT_BOOKS_BY_ISBN = "select book_id, isbn, import_hash from book where isbn in (:isbns)";
+
+    private static final String DELETE_BOOK_AUTHORS = "delete from book_author where book_id in (:bookIds)";
+
+    private static final String DELETE_BOOK_CATEGORIES = "delete from book_category where book_id in (:bookIds)";
+
+    private static final String INSERT_AUTHOR = "insert into author (author_name) values (?)";
+
+    private static final String INSERT_PUBLISHER = "insert into publisher (publisher_name) values (?)";
+
+    private static final String INSERT_BOOK_AUTHOR = "insert into book_author (book_id, author_id) values (?, ?)";
+
+    private static final String INSERT_BOOK_CATEGORY = "insert into book_category (book_id, category_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public record UpsertResult(int inserted, int updated, int unchanged) {
+    }
+
+    private record ExistingBook(long bookId, Long importHash) {
+    }
+
+    // 증분 적재를 위해 DB에 이미 있는 저자/출판사를 사전으로 미리 읽어옵니다.
+    public NameDictionary loadAuthors() {
+        return loadDictionary("select author_id, author_name from author");
+    }
+
+    public NameDictionary loadPublishers() {
+        return loadDictionary("select publisher_id, publisher_name from publisher");
+    }
+
+    // 사전에 없는 저자를 저장하고, 발급된 id를 사전에 등록합니다.
+    public int writeAuthors(List<String> authorNames, NameDictionary authors) {
+        return writeNames(INSERT_AUTHOR, authorNames, authors);
+    }
+
+    public int writePublishers(List<String> publisherNames, NameDictionary publishers) {
+        return writeNames(INSERT_PUBLISHER, publisherNames, publishers);
+    }
+
+    // ISBN 기준 upsert: 없는 도서는 INSERT, 해시가 다른 도서만 UPDATE, 같으면 건너뜁니다.
+    // 기존 도서 조회는 청크당 IN 쿼리 한 번입니다.
+    public UpsertResult upsertBooks(List<BookRecord> records, NameDictionary publishers, NameDictionary authors) {
+        // 1. 같은 청크 안에서 ISBN이 겹치면 마지막 행을 씁니다.
+        Map<String, BookRecord> recordsByIsbn = new LinkedHashMap<>();
+        for (BookRecord record : records) {
+            recordsByIsbn.put(record.book().getIsbn(), record);
+        }
+        if (recordsByIsbn.isEmpty()) {
+            return new UpsertResult(0, 0, 0);
+        }
+
+        // 2. 이미 있는 도서 조회
+        Map<String, ExistingBook> existingBooks = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_BOOKS_BY_ISBN, Map.of("isbns", recordsByIsbn.keySet()), rs -> {
+            long importHash = rs.getLong(3);
+            existingBooks.put(rs.getString(2), new ExistingBook(rs.getLong(1), rs.wasNull() ? null : importHash));
+        });
+
+        // 3. 신규 / 변경 / 동일 분류
+        List<BookRecord> inserts = new ArrayList<>();
+        List<BookRecord> updates = new ArrayList<>();
+        List<Long> updateIds = new ArrayList<>();
+        int unchanged = 0;
+
+        for (BookRecord record : recordsByIsbn.values()) {
+            ExistingBook existing = existingBooks.get(record.book().getIsbn());
+            if (existing == null) {
+                inserts.add(record);
+            } else if (!record.book().getImportHash().equals(existing.importHash())) {
+                updates.add(record);
+                updateIds.add(existing.bookId());
+            } else {
+                unchanged++;
+            }
+        }
+
+        // 4. 저장
+        long[] insertedIds = writeBooks(inserts, publishers);
+        writeBookAuthors(inserts, insertedIds, authors);
+        writeBookCategories(inserts, insertedIds);
+
+        if (!updates.isEmpty()) {
+            long[] updatedIds = updateIds.stream().mapToLong(Long::longValue).toArray();
+            updateBooks(updates, updatedIds, publishers);
+
+            namedParameterJdbcTemplate.update(DELETE_BOOK_AUTHORS, Map.of("bookIds", updateIds));
+            writeBookAuthors(updates, updatedIds, authors);
+
+            namedParameterJdbcTemplate.update(DELETE_BOOK_CATEGORIES, Map.of("bookIds", updateIds));
+            writeBookCategories(updates, updatedIds);
+        }
+
+        return new UpsertResult(inserts.size(), updates.size(), unchanged);
+    }
+
+    // 출판사 FK를 포함해서 도서를 저장하고, 발급된 book_id를 입력 순서대로 반환합니다.
+    public long[] writeBooks(List<BookRecord> records, NameDictionary publishers) {
+        if (records.isEmpty()) {
+            return new long[0];
+        }
+
+        return insertReturningKeys(INSERT_BOOK, records.size(), (ps, i) -> {
+            BookRecord record = records.get(i);
+            Book book = record.book();
+
+            ps.setString(1, book.getIsbn());
+            ps.setString(2, book.getBookName());
+            ps.setString(3, book.getBookDescription());
+            Long publisherId = publishers.findId(record.publisherName());
+            if (publisherId == null) {
+                ps.setNull(4, Types.BIGINT);
+            } else {
+                ps.setLong(4, publisherId);
+            }
+            if (book.getBookPublicationDate() == null) {
+                ps.setNull(5, Types.DATE);
+            } else {
+                ps.setDate(5, Date.valueOf(book.getBookPublicationDate()));
+            }
+            ps.setString(6, book.getBookIndex());
+            ps.setBoolean(7, book.isBookPackaging());
+            ps.setString(8, book.getBookState().name());
+            ps.setInt(9, book.getBookStock());
+            ps.setInt(10, book.getBookRegularPrice());
+            ps.setInt(11, book.getBookSalePrice());
+            ps.setDouble(12, book.getBookReviewRate());
+            ps.setString(13, book.getBookImage());
+            ps.setLong(14, book.getImportHash());
+        });
+    }
+
+    private void updateBooks(List<BookRecord> records, long[] bookIds, NameDictionary publishers) {
+        jdbcTemplate.batchUpdate(UPDATE_BOOK, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Book book = records.get(i).book();
+
+                ps.setString(1, book.getBookName());
+                ps.setString(2, book.getBookDescription());
+                Long publisherId = publishers.findId(records.get(i).publisherName());
+                if (publisherId == null) {
+                    ps.setNull(3, Types.BIGINT);
+                } else {
+                    ps.setLong(3, publisherId);
+                }
+                if (book.getBookPublicationDate() == null) {
+                    ps.setNull(4, Types.DATE);
+                } else {
+                    ps.setDate(4, Date.valueOf(book.getBookPublicationDate()));
+                }
+                ps.setInt(5, book.getBookRegularPrice());
+                ps.setString(6, book.getBookImage());
+                ps.setLong(7, book.getImportHash());
+                ps.setLong(8, bookIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+    }
+
+    // 도서-저자 연결 (bookIds는 writeBooks가 반환한 순서 그대로)
+    public int writeBookAuthors(List<BookRecord> records, long[] bookIds, NameDictionary authors) {
+        List<long[]> links = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            for (String authorName : records.get(i).authorNames()) {
+                Long authorId = authors.findId(authorName);
+                if (authorId != null) {
+                    links.add(new long[]{bookIds[i], authorId});
+                }
+            }
+        }
+
+        if (links.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_BOOK_AUTHOR, links, links.size(), (ps, link) -> {
+            ps.setLong(1, link[0]);
+            ps.setLong(2, link[1]);
+        });
+        return links.size();
+    }
+
+    // 도서-카테고리 연결 (분류기호로 찾은 카테고리가 있는 도서만)
+    public int writeBookCategories(List<BookRecord> records, long[] bookIds) {
+        List<long[]> links = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            Long categoryId = records.get(i).categoryId();
+            if (categoryId != null) {
+                links.add(new long[]{bookIds[i], categoryId});
+            }
+        }
+
+        if (links.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_BOOK_CATEGORY, links, links.size(), (ps, link) -> {
+            ps.setLong(1, link[0]);
+            ps.setLong(2, link[1]);
+        });
+        return links.size();
+    }
+
+    private int writeNames(String sql, List<String> names, NameDictionary dictionary) {
+        if (names.isEmpty()) {
+            return 0;
+        }
+
+        long[] ids = insertReturningKeys(sql, names.size(), (ps, i) -> ps.setString(1, names.get(i)));
+        for (int i = 0; i < ids.length; i++) {
+            dictionary.put(names.get(i), ids[i]);
+        }
+        return ids.length;
+    }
+
+    private NameDictionary loadDictionary(String sql) {
+        NameDictionary dictionary = new NameDictionary();
+        jdbcTemplate.query(sql, rs -> {
+            String name = NameNormalizer.normalize(rs.getString(2));
+            if (!name.isEmpty()) {
+                dictionary.put(name, rs.getLong(1));
+            }
+        });
+        return dictionary;
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    // 배치 INSERT 후 생성된 IDENTITY 키를 입력 순서대로 돌려받습니다. (H2, MySQL 모두 지원)
+    private long[] insertReturningKeys(String sql, int size, RowSetter setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setter.set(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != size) {
+            throw new IllegalStateException("[CSV] 생성된 키 개수가 맞지 않습니다. 기대: " + size + ", 실제: " + keys.size());
+        }
+
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = ((Number) keys.get(i).values().iterator().next()).longValue();
+        }
+        return ids;
+    }
+}
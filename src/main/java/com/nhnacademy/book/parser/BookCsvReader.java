@@ -0,0 +1,161 @@
+package com.nhnacademy.book.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+// 도서 CSV(18 컬럼) 전용 읽기 단계
+// OpenCSV 는 한 줄마다 18개 String 을 만들고, trim() 으로 다시 만들지만
+// 이 reader 는 BookRowMapper 가 실제로 쓰는 컬럼만 String 으로 만들고 나머지는 null 로 둡니다.
+// - 큰따옴표 필드(RFC 4180): 구분자/줄바꿈 포함, "" -> " 처리
+// - 앞뒤 공백은 버퍼 안에서 잘라낸 뒤 String 을 한 번만 만듭니다.
+// 같은 인스턴스를 여러 스레드에서 쓰면 안 됩니다. (읽기 단계 단일 스레드 전용)
+public class BookCsvReader implements BookImportPipeline.RowSource, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // String 으로 만들 컬럼
+    private static final boolean[] MATERIALIZED = new boolean[BookRowMapper.COLUMN_COUNT];
+
+    static {
+        for (int column : BookRowMapper.USED_COLUMNS) {
+            MATERIALIZED[column] = true;
+        }
+    }
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    // 현재 필드 (쓰는 컬럼일 때만 채움)
+    private char[] field = new char[256];
+    private int fieldLength;
+
+    private final String[] scratch = new String[BookRowMapper.COLUMN_COUNT];
+
+    public BookCsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 헤더 등 앞의 레코드를 건너뜁니다.
+    public BookCsvReader skip(int records) throws IOException {
+        for (int i = 0; i < records && next() != null; i++) {
+            // 건너뜀
+        }
+        return this;
+    }
+
+    // 다음 레코드. 파일 끝이면 null
+    // 반환 배열의 길이는 실제 컬럼 수(최대 18)이므로 BookRowMapper 의 컬럼 수 검사가 그대로 동작합니다.
+    @Override
+    public String[] next() throws IOException {
+        if (position == limit && fill() < 0) {
+            return null;
+        }
+
+        Arrays.fill(scratch, null);
+        int column = 0;
+        int terminator;
+
+        do {
+            boolean keep = column < MATERIALIZED.length && MATERIALIZED[column];
+            terminator = readField(keep);
+            if (keep) {
+                scratch[column] = trimmedField();
+            }
+            column++;
+        } while (terminator == ',');
+
+        return Arrays.copyOf(scratch, Math.min(column, scratch.length));
+    }
+
+    // 필드 하나를 읽고, 필드를 끝낸 문자(',' / '\n' / 파일 끝 -1)를 반환합니다.
+    private int readField(boolean keep) throws IOException {
+        fieldLength = 0;
+
+        int c = read();
+        while (c == ' ' || c == '\t') {
+            c = read();
+        }
+
+        // 1. 큰따옴표 필드
+        if (c == '"') {
+            while (true) {
+                c = read();
+                if (c < 0) {
+                    // 닫히지 않은 따옴표: 읽은 데까지 사용
+                    return c;
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        break;
+                    }
+                }
+                if (keep) {
+                    append((char) c);
+                }
+            }
+
+            // 닫는 따옴표 뒤의 공백 등은 버리고 구분자까지 이동
+            while (c >= 0 && c != ',' && c != '\n') {
+                c = read();
+            }
+            return c;
+        }
+
+        // 2. 일반 필드
+        while (c >= 0 && c != ',' && c != '\n') {
+            if (keep) {
+                append((char) c);
+            }
+            c = read();
+        }
+        return c;
+    }
+
+    // 앞뒤 공백(\r 포함)을 잘라낸 String
+    private String trimmedField() {
+        int start = 0;
+        int end = fieldLength;
+        while (start < end && field[start] <= ' ') {
+            start++;
+        }
+        while (end > start && field[end - 1] <= ' ') {
+            end--;
+        }
+        return start == end ? "" : new String(field, start, end - start);
+    }
+
+    private void append(char c) {
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, field.length * 2);
+        }
+        field[fieldLength++] = c;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && fill() < 0) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+
+        position = 0;
+        limit = Math.max(read, 0);
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,193 @@
+package com.nhnacademy.book.parser;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+// 도서 적재 파이프라인: 읽기(1 스레드) -> 변환(N 워커) -> 쓰기(호출 스레드, 청크 단위)
+// 단계 사이는 크기가 제한된 큐로 연결되어, 쓰기가 느리면 읽기/변환도 자연스럽게 멈춥니다. (backpressure)
+public class BookImportPipeline {
+
+    // CSV 한 줄씩 꺼내는 읽기 단계 (더 이상 없으면 null)
+    @FunctionalInterface
+    public interface RowSource {
+        String[] next() throws IOException;
+    }
+
+    // 변환이 끝난 청크를 저장하는 쓰기 단계
+    @FunctionalInterface
+    public interface ChunkWriter {
+        void write(BookChunk chunk);
+    }
+
+    private record RowChunk(long sequence, long lastRow, List<String[]> rows) {
+    }
+
+    // lastRow: 이 청크에 포함된 마지막 데이터 행 번호 (건너뛴 행 포함, 체크포인트용)
+    public record BookChunk(long sequence, long lastRow, List<BookRecord> records) {
+    }
+
+    private static final RowChunk END_OF_ROWS = new RowChunk(-1, -1, List.of());
+    private static final BookChunk END_OF_BOOKS = new BookChunk(-1, -1, List.of());
+    private static final long POLL_MILLIS = 200;
+
+    private final int workers;
+    private final int chunkSize;
+    private final BlockingQueue<RowChunk> rowQueue;
+    private final BlockingQueue<BookChunk> bookQueue;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final ImportProgress progress;
+
+    public BookImportPipeline(int workers, int chunkSize, int queueCapacity, ImportProgress progress) {
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.rowQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.bookQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.progress = progress;
+    }
+
+    // resumeAfterRow: 이 행 번호까지는 이미 저장되었으므로 읽기만 하고 넘깁니다. (처음부터면 0)
+    public void run(RowSource source, long resumeAfterRow,
+                    Function<String[], BookRecord> transform, ChunkWriter writer) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 1, threadFactory());
+        try {
+            executor.execute(() -> read(source, resumeAfterRow));
+
+            AtomicInteger activeWorkers = new AtomicInteger(workers);
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> transform(transform, activeWorkers));
+            }
+
+            write(writer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("[CSV] 도서 적재 파이프라인이 중단되었습니다.");
+        } finally {
+            // 정상 종료면 이미 모두 끝난 상태, 실패면 블록된 읽기/변환 스레드를 깨워서 정리합니다.
+            executor.shutdownNow();
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof IOException e) {
+            throw e;
+        }
+        if (cause instanceof RuntimeException e) {
+            throw e;
+        }
+        if (cause instanceof Error e) {
+            throw e;
+        }
+        if (cause != null) {
+            throw new IOException(cause);
+        }
+    }
+
+    // 1. 읽기 단계: 줄을 청크로 묶어서 변환 큐에 넣습니다.
+    private void read(RowSource source, long resumeAfterRow) {
+        try {
+            long sequence = 0;
+            long rowNumber = 0;
+            List<String[]> rows = new ArrayList<>(chunkSize);
+
+            String[] line;
+            while ((line = source.next()) != null) {
+                // 취소 요청은 읽기 단계에서 확인하고, 실패와 같은 경로로 모든 단계를 멈춥니다.
+                if (progress.isCancelled()) {
+                    throw new ImportCancelledException();
+                }
+
+                rowNumber++;
+                if (rowNumber <= resumeAfterRow) {
+                    continue;
+                }
+
+                progress.addRowsRead(1);
+                rows.add(line);
+
+                if (rows.size() >= chunkSize) {
+                    rowQueue.put(new RowChunk(sequence++, rowNumber, rows));
+                    rows = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!rows.isEmpty()) {
+                rowQueue.put(new RowChunk(sequence, rowNumber, rows));
+            }
+
+            for (int i = 0; i < workers; i++) {
+                rowQueue.put(END_OF_ROWS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    // 2. 변환 단계: 기존 건너뛰기 규칙(컬럼 수 18 미만)은 transform이 null을 반환하는 것으로 유지됩니다.
+    private void transform(Function<String[], BookRecord> transform, AtomicInteger activeWorkers) {
+        try {
+            while (true) {
+                RowChunk chunk = rowQueue.take();
+                if (chunk == END_OF_ROWS) {
+                    break;
+                }
+
+                List<BookRecord> records = new ArrayList<>(chunk.rows().size());
+                for (String[] row : chunk.rows()) {
+                    BookRecord record = transform.apply(row);
+                    if (record != null) {
+                        records.add(record);
+                    }
+                }
+                progress.addRejects(chunk.rows().size() - records.size());
+
+                bookQueue.put(new BookChunk(chunk.sequence(), chunk.lastRow(), records));
+            }
+
+            // 마지막으로 끝난 워커가 쓰기 단계에 종료를 알립니다.
+            if (activeWorkers.decrementAndGet() == 0) {
+                bookQueue.put(END_OF_BOOKS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    // 3. 쓰기 단계: 호출 스레드에서 청크를 하나씩 저장합니다.
+    private void write(ChunkWriter writer) throws InterruptedException {
+        while (failure.get() == null) {
+            BookChunk chunk = bookQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (chunk == null) {
+                continue;
+            }
+            if (chunk == END_OF_BOOKS) {
+                return;
+            }
+
+            writer.write(chunk);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "book-import-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,25 +1,28 @@
 package com.nhnacademy.book.parser;
 
-import com.nhnacademy.book.entity.Author;
-import com.nhnacademy.book.entity.Book;
-import com.nhnacademy.book.entity.BookState;
-import com.nhnacademy.book.entity.Publisher;
-import com.nhnacademy.book.repository.AuthorRepository;
-import com.nhnacademy.book.repository.BookRepository;
-import com.nhnacademy.book.repository.PublisherRepository;
-import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
-import com.opencsv.exceptions.CsvDataTypeMismatchException;
-import com.opencsv.exceptions.CsvException;
+import com.nhnacademy.book.category.CategoryTreeCache;
+import com.nhnacademy.book.category.KdcCategoryResolver;
+import com.nhnacademy.book.entity.ImportCheckpoint;
+import com.nhnacademy.book.repository.ImportCheckpointRepository;
+import com.nhnacademy.book.snapshot.CatalogGenerationCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -27,86 +30,168 @@ import java.util.Set;
 @RequiredArgsConstructor
 @Component
 public class BookParser {
-    private final CustomDateConverter customDateConverter;
-
-    private final BookRepository bookRepository;
-    private final PublisherRepository publisherRepository;
-    private final AuthorRepository authorRepository;
-
-    public void parse(Reader reader) throws IOException, CsvException {
-        List<String[]> allLines;
-        List<Book> books = new ArrayList<>();
-        Set<Publisher> publishers = new HashSet<>();
-        Set<Author> authors = new HashSet<>();
-
-        try (CSVReader csvReader = new CSVReaderBuilder(reader).withSkipLines(1).build()) {
-            allLines = csvReader.readAll();
-
-            // 요청하신 대로 forEach 블록에서 각 필드를 변수로 받습니다.
-            allLines.stream()
-                    .filter(line -> line.length >= 18)
-                    .forEach(line -> {
-                        String seqNo = line[0].trim();
-                        String isbnThirteenNo = line[1].trim();
-                        String vlmNm = line[2].trim();
-                        String titleNm = line[3].trim();
-                        String authrNm = line[4].trim();
-                        String publisherNm = line[5].trim();
-                        String pblicteDe = line[6].trim();
-                        String adtionSmblNm = line[7].trim();
-                        String prcValue = line[8].trim();
-                        String imageUrl = line[9].trim();
-                        String bookIntrcnCn = line[10].trim();
-                        String kdcNm = line[11].trim();
-                        String titleSbstNm = line[12].trim();
-                        String authrSbstNm = line[13].trim();
-                        String twoPblicteDe = line[14].trim();
-                        String intntBookstBookExstAt = line[15].trim();
-                        String portalSiteBookExstAt = line[16].trim();
-                        String isbnNo = line[17].trim();
-
-                        Publisher publisher = new Publisher(publisherNm);
-                        Author author = new Author(authrNm);
-
-                        if (!publisher.getPublisherName().isBlank()) {
-                            publishers.add(publisher);
-                        }
-
-                        if (!author.getAuthorName().isBlank()) {
-                            authors.add(author);
-                        }
-
-                        try {
-                            Book book = new Book(
-                                null,
-                                isbnThirteenNo,
-                                titleNm,
-                                bookIntrcnCn,
-                                (LocalDate) customDateConverter.convert(twoPblicteDe),
-                                "",
-                                false,
-                                BookState.ON_SALE,
-                                100,
-                                prcValue.isEmpty() ? 0 : (int) Double.parseDouble(prcValue),
-                                0,
-                                0,
-                                imageUrl.isEmpty() ? "/images/default_book.png" : imageUrl
-                            );
-
-                            books.add(book);
-                        } catch (CsvDataTypeMismatchException e) {
-                            throw new RuntimeException(e);
-                        }
-                    });
+    private final BookRowMapper bookRowMapper;
+
+    private final BookBulkWriter bookBulkWriter;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogGenerationCounter catalogGenerationCounter;
+
+    // 한 번에 JDBC 배치로 저장하는 단위 (행 수)
+    @Value("${book.import.chunk-size:1000}")
+    private int chunkSize;
+
+    // 변환 워커 스레드 수 (0 이하면 CPU 코어 수)
+    @Value("${book.import.workers:0}")
+    private int workers;
+
+    // 단계 사이 큐에 쌓아둘 수 있는 청크 수
+    @Value("${book.import.queue-capacity:8}")
+    private int queueCapacity;
+
+    // 적재 통계 (청크 저장은 쓰기 단계 단일 스레드에서만 일어납니다)
+    private static class Totals {
+        long inserted;
+        long updated;
+        long unchanged;
+    }
+
+    // ISBN 기준 증분 적재
+    // 파일 내용(SHA-256)별로 체크포인트를 남기므로, 중간에 멈춰도 같은 파일이면 멈춘 행 다음부터 이어서 적재합니다.
+    public void parse(Resource resource) throws IOException {
+        parse(resource, new ImportProgress());
+    }
+
+    public void parse(Resource resource, ImportProgress progress) throws IOException {
+        String fileDigest = digest(resource);
+
+        ImportCheckpoint checkpoint = importCheckpointRepository.findById(fileDigest)
+                .orElseGet(() -> importCheckpointRepository.save(new ImportCheckpoint(fileDigest, resource.getFilename())));
+
+        if (checkpoint.isCompleted()) {
+            log.info("[CSV] 이미 적재가 끝난 파일입니다. ({}, {}) 건너뜁니다.", resource.getFilename(), fileDigest);
+            return;
+        }
+        if (checkpoint.getLastRow() > 0) {
+            log.info("[CSV] 체크포인트에서 이어서 적재합니다. ({} 행 이후)", checkpoint.getLastRow());
+        }
+
+        int workerCount = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        BookImportPipeline pipeline = new BookImportPipeline(workerCount, chunkSize, queueCapacity, progress);
+        RowWatermark watermark = new RowWatermark(checkpoint.getLastRow());
+
+        // 저자/출판사 이름 -> id 사전은 쓰기 단계(단일 스레드)에서만 다룹니다.
+        NameDictionary publishers = bookBulkWriter.loadPublishers();
+        NameDictionary authors = bookBulkWriter.loadAuthors();
+        log.info("[CSV] 이름 사전 로딩 완료: 저자 {} 명, 출판사 {} 곳", authors.size(), publishers.size());
+
+        // 분류기호 -> 카테고리는 적재 시작 시점의 카테고리 트리로 한 번에 계산해 둡니다.
+        KdcCategoryResolver categories = KdcCategoryResolver.of(categoryTreeCache.getTree());
+
+        Totals totals = new Totals();
+        long startedAt = System.nanoTime();
+        progress.start(resource.contentLength());
+
+        // 헤더 1줄 건너뜀. 쓰는 컬럼만 String 으로 만드는 전용 reader 를 씁니다.
+        try (Reader reader = new InputStreamReader(progress.track(resource.getInputStream()), StandardCharsets.UTF_8);
+             BookCsvReader source = new BookCsvReader(reader).skip(1)) {
+            BadDataReport badData = progress.getBadData();
+            pipeline.run(source, checkpoint.getLastRow(), line -> bookRowMapper.map(line, badData, categories), chunk -> {
+                long lastRow = watermark.complete(chunk.sequence(), chunk.lastRow());
+                saveChunk(chunk.records(), publishers, authors, fileDigest, lastRow, totals, startedAt, progress);
+                progress.addRowsWritten(chunk.records().size());
+            });
         }
 
-        publisherRepository.saveAll(publishers);
-        authorRepository.saveAll(authors);
+        transactionTemplate.executeWithoutResult(status -> {
+            progress.fenceWrite();
+            importCheckpointRepository.markCompleted(fileDigest, LocalDateTime.now());
+        });
 
-        log.info("[CSV] 모든 데이터 읽기 완료: {} 건", allLines.size());
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long written = totals.inserted + totals.updated;
+        log.info("[CSV] 모든 데이터 읽기 완료: {} 건 (건너뜀 {} 건, 워커 {} 개)",
+                progress.getRowsRead(), progress.getRejects(), workerCount);
+        log.info("[CSV] 도서 적재 완료: 신규 {} 건, 변경 {} 건, 동일 {} 건. ({} ms, {} rows/s)",
+                totals.inserted, totals.updated, totals.unchanged, elapsedMillis, written * 1000 / elapsedMillis);
+        reportBadData(progress.getBadData());
+    }
+
+    // 잘못된 값은 적재가 끝난 뒤 종류별로 한 번만 보고합니다.
+    private void reportBadData(BadDataReport badData) {
+        for (BadDataReport.Kind kind : BadDataReport.Kind.values()) {
+            long count = badData.getCount(kind);
+            if (count > 0) {
+                log.warn("[CSV] 잘못된 {} 데이터 {} 건 (기본값 사용). 예: {}", kind.getLabel(), count, badData.getSamples(kind));
+            }
+        }
+    }
+
+    // 청크 단위로 한 트랜잭션에서 JDBC 배치로 저장합니다. (영속성 컨텍스트를 거치지 않음)
+    // 임대 확인 -> 새 저자/출판사 -> 도서 upsert(출판사 FK 포함) -> 도서-저자/도서-카테고리 연결 -> 체크포인트 순서이며, 행마다 조회 쿼리를 보내지 않습니다.
+    private void saveChunk(List<BookRecord> records, NameDictionary publishers, NameDictionary authors,
+                           String fileDigest, long lastRow, Totals totals, long startedAt, ImportProgress progress) {
+        long chunkStartedAt = System.nanoTime();
+
+        Set<String> newPublishers = new LinkedHashSet<>();
+        Set<String> newAuthors = new LinkedHashSet<>();
+        for (BookRecord record : records) {
+            if (!record.publisherName().isEmpty() && !publishers.contains(record.publisherName())) {
+                newPublishers.add(record.publisherName());
+            }
+            for (String authorName : record.authorNames()) {
+                if (!authors.contains(authorName)) {
+                    newAuthors.add(authorName);
+                }
+            }
+        }
+
+        BookBulkWriter.UpsertResult result = transactionTemplate.execute(status -> {
+            // 첫 문장: 임대를 잃었으면 여기서 롤백됩니다. (하트비트가 알아채기 전에 다른 노드가 가져간 경우 포함)
+            progress.fenceWrite();
+
+            bookBulkWriter.writePublishers(new ArrayList<>(newPublishers), publishers);
+            bookBulkWriter.writeAuthors(new ArrayList<>(newAuthors), authors);
+
+            BookBulkWriter.UpsertResult upserted = bookBulkWriter.upsertBooks(records, publishers, authors);
+            if (upserted.inserted() + upserted.updated() > 0) {
+                catalogGenerationCounter.bump();
+            }
+
+            // 이 청크와 같은 트랜잭션에서 체크포인트를 올려야 저장과 체크포인트가 어긋나지 않습니다.
+            importCheckpointRepository.updateLastRow(fileDigest, lastRow, LocalDateTime.now());
+            return upserted;
+        });
+
+        totals.inserted += result.inserted();
+        totals.updated += result.updated();
+        totals.unchanged += result.unchanged();
+
+        long chunkMillis = Math.max(1, (System.nanoTime() - chunkStartedAt) / 1_000_000);
+        long totalMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long processed = totals.inserted + totals.updated + totals.unchanged;
+        log.info("[CSV] 청크 저장 완료: 신규 {} / 변경 {} / 동일 {} 건 ({} ms, {} rows/s) / 누적 {} 건 ({} rows/s), 체크포인트 {} 행",
+                result.inserted(), result.updated(), result.unchanged(), chunkMillis, records.size() * 1000L / chunkMillis,
+                processed, processed * 1000 / totalMillis, lastRow);
+    }
+
+    private static String digest(Resource resource) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (InputStream in = resource.getInputStream()) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
 
-        log.info("[CSV] DB에 Batch Insert 시작... ({}개 씩)", 1000);
-        bookRepository.saveAll(books);
-        log.info("[CSV] 총 {} 건의 도서 데이터 저장 완료.", books.size());
+        return HexFormat.of().formatHex(messageDigest.digest());
     }
-}
\ No newline at end of file
+}
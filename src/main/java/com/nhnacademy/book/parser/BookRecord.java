@@ -0,0 +1,9 @@
+package com.nhnacademy.book.parser;
+
+import com.nhnacademy.book.entity.Book;
+
+import java.util.List;
+
+// CSV 한 줄을 변환한 결과 (도서 + 정규화된 저자/출판사 이름 + 분류기호로 찾은 카테고리, 없으면 null)
+public record BookRecord(Book book, List<String> authorNames, String publisherName, Long categoryId) {
+}
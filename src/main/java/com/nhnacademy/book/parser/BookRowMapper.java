@@ -0,0 +1,138 @@
+package com.nhnacademy.book.parser;
+
+import com.nhnacademy.book.category.KdcCategoryResolver;
+import com.nhnacademy.book.category.KdcCode;
+import com.nhnacademy.book.entity.Book;
+import com.nhnacademy.book.entity.BookState;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 도서 CSV 한 줄 -> BookRecord 변환 (여러 워커 스레드에서 동시에 호출되므로 상태를 갖지 않습니다)
+@Component
+public class BookRowMapper {
+    public static final int COLUMN_COUNT = 18;
+
+    // CSV 컬럼 순서
+    // SEQ_NO, ISBN_THIRTEEN_NO, VLM_NM, TITLE_NM, AUTHR_NM, PUBLISHER_NM, PBLICTE_DE, ADTION_SMBL_NM, PRC_VALUE,
+    // IMAGE_URL, BOOK_INTRCN_CN, KDC_NM, TITLE_SBST_NM, AUTHR_SBST_NM, TWO_PBLICTE_DE, INTNT_BOOKST_BOOK_EXST_AT,
+    // PORTAL_SITE_BOOK_EXST_AT, ISBN_NO
+    public static final int ISBN_THIRTEEN_NO = 1;
+    public static final int TITLE_NM = 3;
+    public static final int AUTHR_NM = 4;
+    public static final int PUBLISHER_NM = 5;
+    public static final int PRC_VALUE = 8;
+    public static final int IMAGE_URL = 9;
+    public static final int BOOK_INTRCN_CN = 10;
+    public static final int KDC_NM = 11;
+    public static final int TWO_PBLICTE_DE = 14;
+
+    // 변환에 쓰는 컬럼 (BookCsvReader 는 이 컬럼만 String 으로 만듭니다)
+    static final int[] USED_COLUMNS = {
+            ISBN_THIRTEEN_NO, TITLE_NM, AUTHR_NM, PUBLISHER_NM, PRC_VALUE, IMAGE_URL, BOOK_INTRCN_CN, KDC_NM,
+            TWO_PBLICTE_DE
+    };
+
+    // 컬럼 수가 모자라거나 ISBN이 없는 줄은 건너뜁니다. (null 반환, ISBN이 증분 적재의 키)
+    // 잘못된 출판일/가격은 기본값(오늘 날짜 / 0)으로 바꾸고 badData 에 모아 둡니다. (행마다 로그를 남기지 않음)
+    // 분류기호는 categories 로 카테고리를 찾고, 형식이 틀리거나 맞는 카테고리가 없으면 카테고리 없이 저장합니다.
+    public BookRecord map(String[] line, BadDataReport badData, KdcCategoryResolver categories) {
+        if (line.length < COLUMN_COUNT) {
+            return null;
+        }
+
+        // 쓰지 않는 컬럼은 BookCsvReader 가 만들지 않습니다. (null)
+        String isbnThirteenNo = column(line, ISBN_THIRTEEN_NO);
+        String titleNm = column(line, TITLE_NM);
+        String authrNm = column(line, AUTHR_NM);
+        String publisherNm = column(line, PUBLISHER_NM);
+        String prcValue = column(line, PRC_VALUE);
+        String imageUrl = column(line, IMAGE_URL);
+        String bookIntrcnCn = column(line, BOOK_INTRCN_CN);
+        String kdcNm = column(line, KDC_NM);
+        String twoPblicteDe = column(line, TWO_PBLICTE_DE);
+
+        if (isbnThirteenNo.isEmpty()) {
+            return null;
+        }
+
+        LocalDate publicationDate = LocalDate.now(); // 비어있으면 현재 날짜
+        if (!twoPblicteDe.isEmpty()) {
+            LocalDate parsed = CustomDateConverter.parse(twoPblicteDe);
+            if (parsed != null) {
+                publicationDate = parsed;
+            } else {
+                badData.record(BadDataReport.Kind.PUBLICATION_DATE, isbnThirteenNo, twoPblicteDe);
+            }
+        }
+
+        int regularPrice = 0;
+        if (!prcValue.isEmpty()) {
+            int parsed = CustomPriceConverter.parse(prcValue);
+            if (parsed != CustomPriceConverter.INVALID) {
+                regularPrice = parsed;
+            } else {
+                badData.record(BadDataReport.Kind.PRICE, isbnThirteenNo, prcValue);
+            }
+        }
+
+        Long categoryId = null;
+        if (!kdcNm.isEmpty()) {
+            long code = KdcCode.parse(kdcNm);
+            long resolved = categories.resolve(code);
+            if (code == KdcCode.NONE) {
+                badData.record(BadDataReport.Kind.KDC, isbnThirteenNo, kdcNm);
+            } else if (resolved == KdcCode.NONE) {
+                badData.record(BadDataReport.Kind.UNKNOWN_CATEGORY, isbnThirteenNo, kdcNm);
+            } else {
+                categoryId = resolved;
+            }
+        }
+
+        Book book = new Book(
+            null,
+            isbnThirteenNo,
+            titleNm,
+            bookIntrcnCn,
+            null,
+            publicationDate,
+            "",
+            false,
+            BookState.ON_SALE,
+            100,
+            regularPrice,
+            0,
+            0,
+            imageUrl.isEmpty() ? "/images/default_book.png" : imageUrl,
+            null
+        );
+
+        // 출판사 FK는 쓰기 단계에서 이름 사전으로 채웁니다.
+        List<String> authorNames = NameNormalizer.splitAuthors(authrNm);
+        String publisherName = NameNormalizer.normalize(publisherNm);
+
+        // 변경 감지는 CSV에서 실제로 쓰는 값만으로 계산합니다.
+        RowHash hash = new RowHash()
+                .add(book.getIsbn())
+                .add(book.getBookName())
+                .add(book.getBookDescription())
+                .add(twoPblicteDe)
+                .add(book.getBookRegularPrice())
+                .add(book.getBookImage())
+                .add(publisherName)
+                .add(categoryId == null ? KdcCode.NONE : categoryId);
+        for (String authorName : authorNames) {
+            hash.add(authorName);
+        }
+        book.setImportHash(hash.value());
+
+        return new BookRecord(book, authorNames, publisherName, categoryId);
+    }
+
+    // 이미 잘린 값이면 trim() 은 같은 인스턴스를 반환하므로 추가 할당이 없습니다.
+    private static String column(String[] line, int index) {
+        String value = line[index];
+        return value == null ? "" : value.trim();
+    }
+}
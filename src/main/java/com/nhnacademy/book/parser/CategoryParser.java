@@ -1,16 +1,19 @@
 package com.nhnacademy.book.parser;
 
+import com.nhnacademy.book.category.KdcCode;
 import com.nhnacademy.book.entity.Category;
 import com.nhnacademy.book.repository.CategoryRepository;
+import com.nhnacademy.book.snapshot.CatalogGenerationCounter;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,19 +22,27 @@ import java.util.Map;
 @Component
 public class CategoryParser {
     private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogGenerationCounter catalogGenerationCounter;
 
     public void parse(Reader reader) throws IOException, CsvException {
+        parse(reader, new ImportProgress());
+    }
+
+    public void parse(Reader reader, ImportProgress progress) throws IOException, CsvException {
         Map<Long, Category> categoryMapByCode = new HashMap<>();
 
         try (CSVReader csvReader = new CSVReaderBuilder(reader).withSkipLines(1).build()) {
             List<String[]> allLines = csvReader.readAll();
+            progress.addRowsRead(allLines.size());
 
             // 1. 카테고리 객체 생성
             allLines.stream()
                     .filter(line -> !(line.length < 2) && !(line[0].trim().isEmpty()))
                     .forEach(line -> {
                         long id = Long.parseLong(line[0].trim());
-                        String name = line[1].trim();
+                        // "005,프로그래밍, 프로그램, 데이터" 처럼 따옴표 없이 쉼표가 들어간 분류명은 나머지 컬럼을 이어 붙입니다.
+                        String name = String.join(",", Arrays.copyOfRange(line, 1, line.length)).trim();
 
                         Category category = new Category(id, name);
 
@@ -41,7 +52,11 @@ public class CategoryParser {
             // 2. 카테고리 연관 관계 매핑
             categoryMapByCode.values().stream()
                     .forEach(category -> {
+                        // 바로 위 코드가 파일에 없으면(예: 610 없이 611~619) 그 위 코드를 부모로 씁니다.
                         Long parentCode = getParentCode(category.getCategoryId());
+                        while (parentCode != null && !categoryMapByCode.containsKey(parentCode)) {
+                            parentCode = getParentCode(parentCode);
+                        }
                         if (parentCode != null) {
                             Category parent = categoryMapByCode.get(parentCode);
                             category.setParent(parent);
@@ -49,25 +64,18 @@ public class CategoryParser {
                     });
         }
 
-        categoryRepository.saveAll(categoryMapByCode.values());
+        // 카테고리 저장과 카탈로그 세대 올리기는 같은 트랜잭션에서 합니다.
+        transactionTemplate.executeWithoutResult(status -> {
+            progress.fenceWrite();
+            categoryRepository.saveAll(categoryMapByCode.values());
+            catalogGenerationCounter.bump();
+        });
+        progress.addRowsWritten(categoryMapByCode.size());
     }
 
+    // "000", "010" 은 숫자로 읽으면 0, 10 이 되므로 자릿수가 아니라 KDC 코드 규칙으로 부모를 구합니다.
     private Long getParentCode(Long code) {
-        String codeStr = code.toString();
-
-        if (codeStr.length() == 3) {
-            // X00 -> 최상위 카테고리
-            if (codeStr.endsWith("00")) {
-                return null;
-            }
-
-            // XY0 -> X00이 부모 카테고리
-            if (codeStr.endsWith("0")) {
-                return (code / 100) * 100;
-            }
-        }
-
-        // 00X, 0XY -> 000, 0X0이 부모 카테고리
-        return (code / 10) * 10;
+        long parentCode = KdcCode.parentOf(code);
+        return parentCode == KdcCode.NONE ? null : parentCode;
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,26 @@
 package com.nhnacademy.book.parser;
 
-import com.nhnacademy.book.entity.Book;
-import com.nhnacademy.book.entity.Category;
+import com.nhnacademy.book.dto.ImportJobResponse;
+import com.nhnacademy.book.job.ImportType;
 import com.nhnacademy.book.repository.BookRepository;
 import com.nhnacademy.book.repository.CategoryRepository;
+import com.nhnacademy.book.repository.ImportCheckpointRepository;
+import com.nhnacademy.book.service.ImportJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
 
+// 부팅 시 초기 적재
+// 적재 자체는 백그라운드 작업으로 넘기므로 애플리케이션 기동(포트 오픈, Eureka 등록)을 막지 않습니다.
+// 적재가 끝날 때까지는 readiness 가 REFUSING_TRAFFIC 입니다. (BootstrapReadinessStateHealthIndicator)
+// 여러 노드가 동시에 떠도 적재는 DB 임대를 얻은 한 노드만 하고, 나머지는 기다렸다가 조건을 다시 보고 건너뜁니다.
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,51 +28,86 @@ public class CsvParser implements CommandLineRunner {
 
     private final BookRepository bookRepository;
     private final CategoryRepository categoryRepository;
-    private final CategoryParser categoryParser;
-    private final BookParser bookParser;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final ImportJobService importJobService;
+
+    // bootstrap: 도서 DB가 비어있을 때만 적재 (중단된 적재는 이어서 진행)
+    // delta: 항상 ISBN 기준 증분 적재 (같은 파일을 이미 끝까지 적재했다면 건너뜀)
+    @Value("${book.import.mode:bootstrap}")
+    private String importMode;
+
+    // 부팅 시 등록한 적재 작업 id
+    private final List<String> bootstrapJobIds = new CopyOnWriteArrayList<>();
 
     @Override
-    public void run(String... args) throws Exception {
+    public void run(String... args) {
 
-        // 카테고리 파싱 시작
-        if (categoryRepository.count() > 0) {
+        // 카테고리 파싱 시작 (작업은 등록 순서대로 하나씩 실행되므로 카테고리 -> 도서 순서가 유지됩니다)
+        if (!categoryRequired()) {
             log.info("[CSV] 카테고리 데이터가 이미 존재합니다. ({} 건). 파싱을 건너뜁니다,", categoryRepository.count());
         } else {
             log.info("[CSV] 카테고리 데이터베이스가 비어있습니다. CSV 파싱을 시작합니다...");
 
-            try {
-                String categoryFilePath = "category.csv";
-
-                ClassPathResource resource = new ClassPathResource(categoryFilePath);
-
-                Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
-
-                categoryParser.parse(reader);
-
-            } catch (Exception e) {
-                log.info("[CSV] 카테고리 데이터 파싱 실패: {}", e.getMessage(), e);
-            }
+            submit(ImportType.CATEGORY, "category.csv", this::categoryRequired);
         }
 
         // 도서 파싱 시작
-        if (bookRepository.count() > 0) {
+        boolean deltaMode = isDeltaMode();
+        boolean resumable = importCheckpointRepository.existsByCompletedFalse();
+
+        if (!bookRequired()) {
             log.info("[CSV] 도서 데이터가 이미 존재합니다. ({} 건). 파싱을 건너뜁니다,", bookRepository.count());
         } else {
-            log.info("[CSV] 도서 데이터베이스가 비어있습니다. CSV 파싱을 시작합니다...");
+            if (resumable) {
+                log.info("[CSV] 중단된 도서 적재가 있습니다. 체크포인트에서 이어서 파싱합니다...");
+            } else if (deltaMode) {
+                log.info("[CSV] 증분 적재 모드입니다. ISBN 기준으로 변경분만 반영합니다...");
+            } else {
+                log.info("[CSV] 도서 데이터베이스가 비어있습니다. CSV 파싱을 시작합니다...");
+            }
 
-            try {
-                // 파일 경로는 "data/book.csv" 또는 "book.csv" (resources 폴더 기준)
-                String filePath = "book.csv"; // (resources/book.csv를 가리킴)
+            // 파일 경로는 "data/book.csv" 또는 "book.csv" (resources 폴더 기준)
+            submit(ImportType.BOOK, "book.csv", this::bookRequired);
+        }
+    }
 
-                ClassPathResource resource = new ClassPathResource(filePath);
+    // 부팅 시 등록한 적재 작업이 아직 끝나지 않았는지 (끝난 작업은 목록에서 빼서 다시 조회하지 않음)
+    public boolean isImporting() {
+        bootstrapJobIds.removeIf(this::isFinished);
+        return !bootstrapJobIds.isEmpty();
+    }
 
-                Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
+    private boolean isFinished(String jobId) {
+        try {
+            return importJobService.getJob(jobId).getStatus().isFinished();
+        } catch (IllegalArgumentException e) {
+            // 끝난 작업은 보관 기간이 지나면 ImportJobService 에서 지워집니다.
+            return true;
+        }
+    }
 
-                bookParser.parse(reader);
+    // 다른 노드가 먼저 적재했는지 임대를 얻은 뒤 다시 확인할 때도 같은 조건을 씁니다.
+    private boolean categoryRequired() {
+        return categoryRepository.count() == 0;
+    }
 
-            } catch (Exception e) {
-                log.info("[CSV] 도서 데이터 파싱 실패: {}", e.getMessage(), e);
-            }
+    // 같은 파일을 이미 끝까지 적재했다면 BookParser 가 체크포인트를 보고 건너뜁니다.
+    private boolean bookRequired() {
+        return isDeltaMode() || importCheckpointRepository.existsByCompletedFalse() || bookRepository.count() == 0;
+    }
+
+    private boolean isDeltaMode() {
+        return "delta".equalsIgnoreCase(importMode);
+    }
+
+    private void submit(ImportType type, String filePath, BooleanSupplier required) {
+        ClassPathResource resource = new ClassPathResource(filePath);
+        if (!resource.exists()) {
+            log.info("[CSV] 클래스패스에 {} 파일이 없습니다. 파싱을 건너뜁니다.", filePath);
+            return;
         }
+
+        ImportJobResponse job = importJobService.submitResource(type, resource, required);
+        bootstrapJobIds.add(job.getJobId());
     }
-}
\ No newline at end of file
+}
@@ -7,16 +7,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 @Slf4j
 @Component
 public class CustomDateConverter extends AbstractBeanField<Book, LocalDate> {
 
-    // 2가지 형식의 포맷터를 미리 정의
-    private static final DateTimeFormatter FORMATTER_DASH = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final DateTimeFormatter FORMATTER_NODASH = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
 
     @Override
     protected Object convert(String value) throws CsvDataTypeMismatchException {
@@ -24,23 +20,61 @@ public class CustomDateConverter extends AbstractBeanField<Book, LocalDate> {
             return LocalDate.now(); // CSV 값이 비어있으면 현재 날짜
         }
 
-        try {
-            if (value.contains("-")) {
-                // "yyyy-MM-dd" 형식 파싱
-                return LocalDate.parse(value, FORMATTER_DASH);
-            } else if (value.length() == 8) {
-                // "yyyyMMdd" 형식 파싱
-                return LocalDate.parse(value, FORMATTER_NODASH);
-            } else {
-                // 알 수 없는 형식
-                log.warn("[CSV] 알 수 없는 날짜 형식 ({}): 기본값(오늘 날짜) 사용", value);
-                return LocalDate.now();
-            }
-        } catch (DateTimeParseException e) {
-            // "19982001" (20월) 또는 "19940800" (0일) 같은 잘못된 날짜 파싱 실패 시
+        LocalDate date = parse(value);
+        if (date == null) {
+            // "19982001" (20월) 또는 "19940800" (0일) 같은 잘못된 날짜
             // 예외를 던지지 않고, 로그만 남기고 기본값(오늘 날짜)을 반환
             log.warn("[CSV] 잘못된 날짜 데이터 ({}): 기본값(오늘 날짜) 사용", value);
             return LocalDate.now();
         }
+        return date;
+    }
+
+    // "yyyyMMdd", "yyyy-MM-dd" 를 직접 파싱합니다. (DateTimeFormatter 를 거치지 않음)
+    // 형식이 다르거나 없는 날짜면 null
+    // 기존 포맷터(ResolverStyle.SMART)와 같게 29~31일은 그 달의 마지막 날로 맞춥니다. (예: 0231 -> 02/28)
+    public static LocalDate parse(String value) {
+        int year;
+        int month;
+        int day;
+
+        if (value.length() == 8) {
+            year = digits(value, 0, 4);
+            month = digits(value, 4, 6);
+            day = digits(value, 6, 8);
+        } else if (value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-') {
+            year = digits(value, 0, 4);
+            month = digits(value, 5, 7);
+            day = digits(value, 8, 10);
+        } else {
+            return null;
+        }
+
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+
+        int lastDay = DAYS_IN_MONTH[month - 1];
+        if (month == 2 && isLeapYear(year)) {
+            lastDay = 29;
+        }
+        return LocalDate.of(year, month, Math.min(day, lastDay));
+    }
+
+    // 숫자가 아니면 -1
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
     }
-}
\ No newline at end of file
+}
@@ -8,9 +8,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CustomPriceConverter extends AbstractBeanField<Book, Integer> { // Integer 반환
 
+    // parse 실패 표시 (가격은 음수가 될 수 없음)
+    public static final int INVALID = -1;
+
     @Override
     protected Object convert(String value) throws CsvDataTypeMismatchException {
-        if (value == null || value.isEmpty()) {
+        if (value == null) {
             return 0; // CSV 값이 비어있으면 0
         }
 
@@ -21,19 +24,53 @@ public class CustomPriceConverter extends AbstractBeanField<Book, Integer> { //
             return 0; // 공백만 있는 경우 0
         }
 
-        try {
-            if (trimmedValue.contains(".")) {
-                // "10590.00" 같은 소수점 문자열 처리
-                Double doubleValue = Double.parseDouble(trimmedValue);
-                return doubleValue.intValue(); // Double -> int
-            } else {
-                // "16000" 같은 정수 문자열 처리
-                return Integer.parseInt(trimmedValue);
-            }
-        } catch (NumberFormatException e) {
+        int price = parse(trimmedValue);
+        if (price == INVALID) {
             log.warn("[CSV] 가격 형식 파싱 실패 ({}): 기본값(0) 사용", value);
             // 예외를 던지는 대신 0을 반환하여 파싱을 계속 진행합니다.
             return 0;
         }
+        return price;
+    }
+
+    // "16000", "10590.00" 같은 가격 문자열을 Double 을 거치지 않고 직접 파싱합니다.
+    // 소수점 아래는 버립니다. (기존 Double.intValue 와 같음)
+    // 숫자가 아니거나, 음수이거나, int 범위를 넘으면 INVALID
+    public static int parse(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return INVALID;
+        }
+
+        int i = 0;
+        long result = 0;
+        boolean hasDigit = false;
+
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                break;
+            }
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+
+            result = result * 10 + (c - '0');
+            if (result > Integer.MAX_VALUE) {
+                return INVALID;
+            }
+            hasDigit = true;
+        }
+
+        // 소수점 아래도 숫자인지만 확인합니다.
+        for (i++; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            hasDigit = true;
+        }
+
+        return hasDigit ? (int) result : INVALID;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package com.nhnacademy.book.parser;
+
+// 적재 작업이 취소되었을 때 파이프라인을 멈추기 위한 예외
+public class ImportCancelledException extends RuntimeException {
+    public ImportCancelledException() {
+        super("[CSV] 적재 작업이 취소되었습니다.");
+    }
+}
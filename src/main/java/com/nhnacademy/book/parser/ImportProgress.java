@@ -0,0 +1,115 @@
+package com.nhnacademy.book.parser;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 적재 진행 상황 (읽기/변환/쓰기 스레드가 동시에 갱신하고, 상태 조회 API가 읽습니다)
+public class ImportProgress {
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private final AtomicLong rejects = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final BadDataReport badData = new BadDataReport();
+
+    private volatile long totalBytes = -1;
+    private volatile long startedAt;
+    private volatile boolean cancelled;
+
+    // 쓰기 트랜잭션마다 첫 문장으로 실행합니다. (적재 임대 확인, 임대 없이 실행하면 아무것도 하지 않음)
+    private volatile Runnable writeFence = () -> {
+    };
+
+    public void start(long totalBytes) {
+        this.totalBytes = totalBytes;
+        this.startedAt = System.nanoTime();
+    }
+
+    public void addRowsRead(long rows) {
+        rowsRead.addAndGet(rows);
+    }
+
+    public void addRowsWritten(long rows) {
+        rowsWritten.addAndGet(rows);
+    }
+
+    public void addRejects(long rows) {
+        rejects.addAndGet(rows);
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten.get();
+    }
+
+    public long getRejects() {
+        return rejects.get();
+    }
+
+    public BadDataReport getBadData() {
+        return badData;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void setWriteFence(Runnable writeFence) {
+        this.writeFence = writeFence;
+    }
+
+    // 임대를 잃었으면 예외를 던져 지금 트랜잭션을 롤백합니다.
+    public void fenceWrite() {
+        writeFence.run();
+    }
+
+    public long getElapsedMillis() {
+        return startedAt == 0 ? 0 : (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    public long getRowsPerSecond() {
+        long elapsedMillis = getElapsedMillis();
+        return elapsedMillis == 0 ? 0 : rowsRead.get() * 1000 / elapsedMillis;
+    }
+
+    // 남은 예상 시간 (초). 전체 크기를 모르거나 아직 읽은 게 없으면 -1
+    public long getEtaSeconds() {
+        long total = totalBytes;
+        long read = bytesRead.get();
+        if (total <= 0 || read == 0) {
+            return -1;
+        }
+        return Math.max(0, (total - read) * getElapsedMillis() / read / 1000);
+    }
+
+    // 읽은 바이트 수를 세는 스트림으로 감쌉니다. (ETA 계산용)
+    public InputStream track(InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    bytesRead.incrementAndGet();
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n > 0) {
+                    bytesRead.addAndGet(n);
+                }
+                return n;
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.book.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 정규화된 이름 -> id 사전 (적재의 쓰기 단계에서만 쓰므로 동기화하지 않습니다)
+public class NameDictionary {
+    private final Map<String, Long> idsByName = new HashMap<>();
+
+    public Long findId(String name) {
+        return idsByName.get(name);
+    }
+
+    public boolean contains(String name) {
+        return idsByName.containsKey(name);
+    }
+
+    public void put(String name, long id) {
+        idsByName.putIfAbsent(name, id);
+    }
+
+    public int size() {
+        return idsByName.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.nhnacademy.book.parser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 저자/출판사 이름 정규화
+// "한강 (지은이),  홍길동(옮긴이)" -> ["한강", "홍길동"]
+public final class NameNormalizer {
+
+    private NameNormalizer() {
+    }
+
+    // 괄호로 된 역할 표기 "(지은이)" 를 지우고, 연속 공백을 하나로 줄이고, 앞뒤 공백을 제거합니다.
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(name.length());
+        int depth = 0;
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            if (c == '(') {
+                depth++;
+                pendingSpace = true;
+                continue;
+            }
+            if (c == ')' && depth > 0) {
+                depth--;
+                continue;
+            }
+            if (depth > 0) {
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+
+            if (pendingSpace && !sb.isEmpty()) {
+                sb.append(' ');
+            }
+            pendingSpace = false;
+            sb.append(c);
+        }
+
+        return sb.toString();
+    }
+
+    // 여러 저자는 "," 로 나눠서 각각 정규화합니다. (빈 이름, 중복 제외)
+    public static List<String> splitAuthors(String authors) {
+        if (authors == null || authors.isBlank()) {
+            return List.of();
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String author : authors.split(",")) {
+            String name = normalize(author);
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+
+        return new ArrayList<>(names);
+    }
+}
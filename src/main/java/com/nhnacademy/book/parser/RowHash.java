@@ -0,0 +1,37 @@
+package com.nhnacademy.book.parser;
+
+// CSV 행 변경 감지용 64비트 해시 (FNV-1a)
+public final class RowHash {
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    public RowHash add(String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                mix(value.charAt(i));
+            }
+        }
+        // 필드 구분자 ("ab"+"c" 와 "a"+"bc" 를 구분)
+        mix(0x1F);
+        return this;
+    }
+
+    public RowHash add(long value) {
+        for (int i = 0; i < 8; i++) {
+            mix((int) (value >>> (i * 8)) & 0xFF);
+        }
+        mix(0x1F);
+        return this;
+    }
+
+    public long value() {
+        return hash;
+    }
+
+    private void mix(int c) {
+        hash ^= c;
+        hash *= PRIME;
+    }
+}
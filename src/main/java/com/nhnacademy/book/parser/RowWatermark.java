@@ -0,0 +1,30 @@
+package com.nhnacademy.book.parser;
+
+import java.util.TreeMap;
+
+// 워커 때문에 순서가 뒤섞여 끝나는 청크들 중 "이 행까지는 모두 저장됨" 위치를 계산합니다.
+// 체크포인트는 이 값만 기록하므로, 재시작 시 일부 행을 다시 처리할 수는 있어도 빠뜨리지는 않습니다.
+public class RowWatermark {
+    private final TreeMap<Long, Long> completedChunks = new TreeMap<>();
+    private long nextSequence = 0;
+    private long lastRow;
+
+    public RowWatermark(long startRow) {
+        this.lastRow = startRow;
+    }
+
+    // 청크 하나가 끝났음을 기록하고, 새 워터마크를 반환합니다.
+    public long complete(long sequence, long chunkLastRow) {
+        completedChunks.put(sequence, chunkLastRow);
+
+        while (!completedChunks.isEmpty() && completedChunks.firstKey() == nextSequence) {
+            lastRow = completedChunks.pollFirstEntry().getValue();
+            nextSequence++;
+        }
+        return lastRow;
+    }
+
+    public long lastRow() {
+        return lastRow;
+    }
+}
@@ -1,7 +1,101 @@
 package com.nhnacademy.book.repository;
 
+import com.nhnacademy.book.dto.BookListResponse;
 import com.nhnacademy.book.entity.Book;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
+
+    // 목록 조회는 엔티티 대신 목록 컬럼만 DTO 로 바로 읽습니다.
+    // 소개글(@Lob book_description)을 읽지 않고, 출판사는 조인으로 이름만 가져오므로 N+1 도 없습니다.
+    String LIST_SELECT = "select new com.nhnacademy.book.dto.BookListResponse("
+            + "b.bookId, b.bookName, p.publisherName, b.bookPackaging, b.bookState, b.bookStock, "
+            + "b.bookRegularPrice, b.bookSalePrice, b.bookReviewRate, b.bookImage) "
+            + "from Book b left join b.publisher p";
+
+    String IN_CATEGORY_RANGE = " where b.bookId in "
+            + "(select bc.book.bookId from BookCategory bc where bc.category.categoryId between :fromId and :toId)";
+
+    // 판매가 일괄 변경: SalePriceRule 과 같이 floor(정가 * factor + 0.5) (= Math.round)
+    String REPRICE = "update Book b set b.bookSalePrice = cast(floor(b.bookRegularPrice * :factor + 0.5) as Integer)";
+
+    String IN_CATEGORY_IDS = " where b.bookId in "
+            + "(select bc.book.bookId from BookCategory bc where bc.category.categoryId in :categoryIds)";
+
+    // 상세 조회: 출판사를 같은 쿼리로 가져옵니다. (트랜잭션 밖에서 DTO 로 바꿔도 LAZY 로딩이 없음)
+    @EntityGraph(attributePaths = "publisher")
+    @Query("select b from Book b where b.bookId = :bookId")
+    Optional<Book> findDetailById(@Param("bookId") Long bookId);
+
+    // 여러 건 상세 조회 (IN 쿼리 한 번)
+    @EntityGraph(attributePaths = "publisher")
+    @Query("select b from Book b where b.bookId in :bookIds")
+    List<Book> findDetailsByIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    @EntityGraph(attributePaths = "publisher")
+    @Query("select b from Book b where b.isbn in :isbns")
+    List<Book> findDetailsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    // 도서 목록 (offset 페이지)
+    @Query(value = LIST_SELECT, countQuery = "select count(b) from Book b")
+    Page<BookListResponse> findListPage(Pageable pageable);
+
+    // 카테고리(하위 포함) 도서 목록: KDC 하위 카테고리는 연속된 id 구간이므로 재귀 조인 없이 BETWEEN 한 번으로 찾습니다.
+    // book_category(category_id, book_id) 인덱스 구간 스캔이고, 한 도서가 여러 하위 카테고리에 걸려도 IN 이라 중복되지 않습니다.
+    @Query(value = LIST_SELECT + IN_CATEGORY_RANGE, countQuery = "select count(b) from Book b" + IN_CATEGORY_RANGE)
+    Page<BookListResponse> findListPageByCategoryRange(@Param("fromId") long fromId, @Param("toId") long toId,
+                                                       Pageable pageable);
+
+    // 하위 카테고리가 연속 구간이 아닐 때(KDC 규칙을 벗어난 데이터)
+    @Query(value = LIST_SELECT + IN_CATEGORY_IDS, countQuery = "select count(b) from Book b" + IN_CATEGORY_IDS)
+    Page<BookListResponse> findListPageByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds,
+                                                     Pageable pageable);
+
+    // 커서(keyset) 페이지: bookId 인덱스에서 after 바로 다음부터 읽으므로 몇 번째 페이지든 비용이 같습니다.
+    // List 반환이라 count 쿼리가 나가지 않습니다. (pageable 은 개수 제한에만 사용)
+    @Query(LIST_SELECT + " where b.bookId < :after order by b.bookId desc")
+    List<BookListResponse> findListPageAfter(@Param("after") long after, Pageable pageable);
+
+    // 검색 결과처럼 id 로 고른 도서의 목록 컬럼 (순서는 호출하는 쪽에서 맞춤)
+    @Query(LIST_SELECT + " where b.bookId in :bookIds")
+    List<BookListResponse> findListByIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    // 재고 확인용 (잠금 없음): [book_id, book_stock]
+    @Query("select b.bookId, b.bookStock from Book b where b.bookId in :bookIds")
+    List<Object[]> findStocks(@Param("bookIds") Collection<Long> bookIds);
+
+    // 재고 차감: 남은 재고가 충분할 때만 줄어듭니다. (0 이면 재고 부족 또는 없는 도서)
+    @Modifying
+    @Query("update Book b set b.bookStock = b.bookStock - :quantity where b.bookId = :bookId and b.bookStock >= :quantity")
+    int decreaseStock(@Param("bookId") Long bookId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update Book b set b.bookStock = b.bookStock + :quantity where b.bookId = :bookId")
+    int increaseStock(@Param("bookId") Long bookId, @Param("quantity") int quantity);
+
+    // 관리자 재고 수정: 조회한 뒤로 재고가 바뀌지 않았을 때만 덮어씁니다. (0 이면 그 사이 주문/취소가 있었음)
+    @Modifying
+    @Query("update Book b set b.bookStock = :newStock where b.bookId = :bookId and b.bookStock = :expectedStock")
+    int replaceStock(@Param("bookId") Long bookId, @Param("expectedStock") int expectedStock, @Param("newStock") int newStock);
+
+    // 일괄 가격 변경 대상: 먼저 id 만 골라 두고 IN 절 청크로 나눠서 바꿉니다. (한 문장이 너무 많은 행을 잠그지 않도록)
+    @Query("select distinct bc.book.bookId from BookCategory bc where bc.category.categoryId between :fromId and :toId")
+    List<Long> findBookIdsByCategoryRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("select b.bookId from Book b where b.publisher.publisherId = :publisherId")
+    List<Long> findBookIdsByPublisher(@Param("publisherId") Long publisherId);
+
+    @Modifying
+    @Query(REPRICE + " where b.bookId in :bookIds")
+    int repriceByIds(@Param("factor") double factor, @Param("bookIds") Collection<Long> bookIds);
 }
@@ -2,9 +2,14 @@ package com.nhnacademy.book.repository;
 
 import com.nhnacademy.book.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findAllByParentIsNull();
+
+    // 카테고리 트리 캐시용: [category_id, category_name, parent_id]
+    @Query("select c.categoryId, c.categoryName, p.categoryId from Category c left join c.parent p")
+    List<Object[]> findAllWithParentId();
 }
@@ -0,0 +1,26 @@
+package com.nhnacademy.book.repository;
+
+import com.nhnacademy.book.entity.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+    boolean existsByCompletedFalse();
+
+    @Transactional
+    @Modifying
+    @Query("update ImportCheckpoint c set c.lastRow = :lastRow, c.updatedAt = :updatedAt where c.fileDigest = :fileDigest")
+    int updateLastRow(@Param("fileDigest") String fileDigest,
+                      @Param("lastRow") long lastRow,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update ImportCheckpoint c set c.completed = true, c.updatedAt = :updatedAt where c.fileDigest = :fileDigest")
+    int markCompleted(@Param("fileDigest") String fileDigest, @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,65 @@
+package com.nhnacademy.book.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+// 한글용 문자 bi-gram 토크나이저
+// 형태소 분석 없이 글자/숫자가 이어진 구간을 두 글자씩 겹쳐서 자릅니다. ("자바의정석" -> 자바, 바의, 의정, 정석)
+// 조사가 붙어도("자바를") "자바" 가 그대로 남으므로 한글 검색에 잘 맞습니다.
+//
+// 토큰은 문자열 대신 두 글자를 합친 int 로 표현합니다. (앞 글자 << 16 | 뒷 글자, 한 글자 구간이면 뒷 글자 0)
+// 따라서 용어 사전이 따로 필요 없고, 토큰을 만들 때 객체도 생기지 않습니다.
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    // 중복을 포함한 토큰 (문서 길이와 tf 계산용)
+    public static int[] tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+
+        String normalized = normalize(text);
+        int[] tokens = new int[normalized.length()];
+        int count = 0;
+
+        int runStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean word = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (word) {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+                continue;
+            }
+
+            if (runStart >= 0) {
+                if (i - runStart == 1) {
+                    tokens[count++] = term(normalized.charAt(runStart), (char) 0);
+                } else {
+                    for (int j = runStart; j < i - 1; j++) {
+                        tokens[count++] = term(normalized.charAt(j), normalized.charAt(j + 1));
+                    }
+                }
+                runStart = -1;
+            }
+        }
+
+        return Arrays.copyOf(tokens, count);
+    }
+
+    // 정렬 + 중복 제거된 토큰 (검색어용)
+    public static int[] uniqueTerms(String text) {
+        return Arrays.stream(tokenize(text)).sorted().distinct().toArray();
+    }
+
+    // 전각/반각, 호환 자모 등을 NFKC 로 맞추고 영문은 소문자로 바꿉니다.
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+    }
+
+    private static int term(char first, char second) {
+        return first << 16 | second;
+    }
+}
@@ -0,0 +1,348 @@
+package com.nhnacademy.book.search;
+
+import com.nhnacademy.book.job.CatalogImportedEvent;
+import com.nhnacademy.book.job.ImportType;
+import com.nhnacademy.book.snapshot.CatalogSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// 제목/소개글 전문 검색 색인 (노드 안 메모리, bi-gram + BM25)
+//
+// 1. 본 세그먼트: 적재가 끝날 때 DB 전체를 읽어 새로 만들고 volatile 참조를 바꿉니다. (읽는 쪽은 잠금 없음)
+//    부팅 시에는 CatalogWarmer 가 카탈로그 스냅샷이나 DB 로 만듭니다. (그 전까지는 델타만 검색됨)
+// 2. 델타 세그먼트: 그 사이 등록/수정된 도서. 커밋 뒤에 넣고, 본 세그먼트의 예전 문서는 가립니다. (DeltaSegment)
+//    델타가 book.search.delta-max 를 넘으면 본 세그먼트를 다시 만들어 합칩니다.
+// 검색은 모든 검색어 bi-gram 을 포함한 문서만(AND) 찾고 BM25 점수 순으로 돌려줍니다.
+// 문서 수 / 평균 길이 / 문서 빈도는 가린 예전 사본을 빼고 델타를 더해서, 수정된 도서를 두 번 세지 않습니다.
+// 검색은 읽기 잠금, 델타 변경과 본 세그먼트 교체는 쓰기 잠금 안에서 하므로 검색 하나는 늘 같은 시점의 두 세그먼트를 봅니다.
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+    private static final String SELECT_BOOKS = "select book_id, book_name, book_description from book order by book_id";
+
+    // BM25 파라미터 (일반적인 기본값)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final int deltaMax;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexSegment main = IndexSegment.empty();
+
+    // 델타 문서에는 변경 순번을 붙여, 다시 만드는 도중에 들어온 변경은 새 본 세그먼트로 바꾼 뒤에도 남깁니다.
+    private final DeltaSegment delta = new DeltaSegment();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-search-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    public record Result(long totalHits, List<Long> bookIds) {
+    }
+
+    public BookSearchIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${book.search.fetch-size:1000}") int fetchSize,
+                           @Value("${book.search.delta-max:10000}") int deltaMax) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+        this.deltaMax = deltaMax;
+    }
+
+    @EventListener
+    public void onImported(CatalogImportedEvent event) {
+        if (event.type() == ImportType.BOOK) {
+            rebuildAsync();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    // 이미 대기 중인 재생성이 있으면 합칩니다.
+    public void rebuildAsync() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildQueued.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("[SEARCH] 검색 색인 생성 실패: {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    // DB 의 도서를 bookId 순서로 스트리밍해서 본 세그먼트를 새로 만듭니다.
+    // 소개글(@Lob)까지 전부 메모리에 올리지 않도록 fetch size 단위로 읽습니다. (MySQL 은 useCursorFetch=true 필요)
+    public synchronized void rebuild() {
+        build("DB", builder -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_BOOKS);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> builder.add(rs.getLong(1), rs.getString(2), rs.getString(3))));
+    }
+
+    // 카탈로그 스냅샷에서 만듭니다. (스냅샷도 bookId 오름차순)
+    public synchronized void load(CatalogSnapshot snapshot) throws IOException {
+        CatalogSnapshot.BookCursor books = snapshot.books();
+        build("스냅샷", builder -> {
+            while (books.next()) {
+                builder.add(books.bookId(), books.title(), books.description());
+            }
+        });
+    }
+
+    void build(String source, Consumer<IndexSegment.Builder> loader) {
+        long startedAt = System.nanoTime();
+        long startSequence = sequence.get();
+
+        IndexSegment.Builder builder = new IndexSegment.Builder();
+        loader.accept(builder);
+
+        IndexSegment built = builder.build();
+        int remaining;
+
+        // 다시 만들기 전에 반영된 변경(커밋 뒤 순번을 받음)은 새 본 세그먼트에 이미 들어 있습니다.
+        lock.writeLock().lock();
+        try {
+            main = built;
+            delta.rebase(built, startSequence);
+            remaining = delta.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("[SEARCH] 검색 색인 생성({}): 도서 {} 권, 용어 {} 개 ({} ms), 남은 델타 {} 건",
+                source, built.docCount(), built.termCount(), (System.nanoTime() - startedAt) / 1_000_000, remaining);
+    }
+
+    // 등록/수정 시 호출합니다. 트랜잭션 안이면 커밋된 뒤에만 색인에 반영합니다.
+    public void index(Long bookId, String title, String description) {
+        IndexSegment.DocTerms terms = IndexSegment.DocTerms.of(title, description);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putDelta(bookId, terms);
+                }
+            });
+        } else {
+            putDelta(bookId, terms);
+        }
+    }
+
+    private void putDelta(Long bookId, IndexSegment.DocTerms terms) {
+        int size;
+        lock.writeLock().lock();
+        try {
+            delta.put(bookId, terms, sequence.incrementAndGet(), main);
+            size = delta.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (size > deltaMax) {
+            rebuildAsync();
+        }
+    }
+
+    // 검색: 모든 검색어 bi-gram 을 포함한 문서를 BM25 점수 내림차순으로 limit 건까지
+    public Result search(String query, int limit) {
+        int[] queryTerms = BigramTokenizer.uniqueTerms(query);
+        if (queryTerms.length == 0 || limit <= 0) {
+            return new Result(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            IndexSegment segment = main;
+
+            // 1. 두 세그먼트를 합친 통계 (idf, 평균 문서 길이): 델타가 가린 본 세그먼트의 예전 사본은 뺍니다.
+            long docCount = segment.docCount() - delta.hiddenCount() + delta.size();
+            long totalLength = segment.totalLength() - delta.hiddenLength() + delta.totalLength();
+            double averageLength = docCount == 0 ? 1 : Math.max(1.0, (double) totalLength / docCount);
+
+            int[] hiddenDocs = delta.hiddenDocs();
+            double[] idf = new double[queryTerms.length];
+            for (int i = 0; i < queryTerms.length; i++) {
+                long df = segment.docFrequency(queryTerms[i]) - hiddenDocFrequency(segment, queryTerms[i], hiddenDocs)
+                        + delta.docFrequency(queryTerms[i]);
+                idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+
+            // 점수가 낮은 것부터 꺼내는 limit 크기의 힙
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, WORST_FIRST);
+
+            // 2. 본 세그먼트 + 3. 델타 세그먼트
+            long totalHits = searchMain(segment, queryTerms, idf, averageLength, top, limit)
+                    + searchDelta(queryTerms, idf, averageLength, top, limit);
+
+            Long[] bookIds = new Long[top.size()];
+            for (int i = bookIds.length - 1; i >= 0; i--) {
+                bookIds[i] = top.poll().bookId();
+            }
+            return new Result(totalHits, Arrays.asList(bookIds));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가린 예전 사본 중 term 을 가진 문서 수 (포스팅을 한 번 훑으면서 오름차순 문서 번호와 맞춰 봄)
+    private static int hiddenDocFrequency(IndexSegment segment, int term, int[] hiddenDocs) {
+        if (hiddenDocs.length == 0) {
+            return 0;
+        }
+        PostingList.Cursor cursor = segment.postings(term);
+        if (cursor == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int doc : hiddenDocs) {
+            if (!cursor.advance(doc)) {
+                break;
+            }
+            if (cursor.doc() == doc) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 델타는 검색어 중 델타에서 가장 드문 용어를 가진 문서만 후보로 봅니다.
+    private long searchDelta(int[] queryTerms, double[] idf, double averageLength, PriorityQueue<Hit> top, int limit) {
+        Set<Long> candidates = null;
+        for (int term : queryTerms) {
+            Set<Long> bookIds = delta.docsWith(term);
+            if (bookIds.isEmpty()) {
+                return 0;
+            }
+            if (candidates == null || bookIds.size() < candidates.size()) {
+                candidates = bookIds;
+            }
+        }
+
+        long hits = 0;
+        for (Long bookId : candidates) {
+            IndexSegment.DocTerms doc = delta.terms(bookId);
+            double score = 0;
+            boolean matched = true;
+            for (int i = 0; i < queryTerms.length && matched; i++) {
+                int tf = doc.tf(queryTerms[i]);
+                matched = tf > 0;
+                score += bm25(idf[i], tf, doc.length(), averageLength);
+            }
+            if (matched) {
+                hits++;
+                offer(top, new Hit(bookId, score), limit);
+            }
+        }
+        return hits;
+    }
+
+    // 문서 빈도가 가장 작은 용어부터 교집합을 좁혀 갑니다. (가장 드문 bi-gram 의 포스팅만 전부 풂)
+    private long searchMain(IndexSegment segment, int[] queryTerms, double[] idf, double averageLength,
+                            PriorityQueue<Hit> top, int limit) {
+        Integer[] order = new Integer[queryTerms.length];
+        for (int i = 0; i < order.length; i++) {
+            if (segment.docFrequency(queryTerms[i]) == 0) {
+                return 0;
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> segment.docFrequency(queryTerms[i])));
+
+        PostingList.Cursor[] cursors = new PostingList.Cursor[order.length];
+        for (int i = 0; i < order.length; i++) {
+            cursors[i] = segment.postings(queryTerms[order[i]]);
+        }
+
+        boolean checkDelta = delta.size() > 0;
+        int[] tfs = new int[queryTerms.length];
+        long hits = 0;
+
+        PostingList.Cursor lead = cursors[0];
+        outer:
+        while (lead.next()) {
+            int doc = lead.doc();
+            for (int i = 1; i < cursors.length; i++) {
+                if (!cursors[i].advance(doc)) {
+                    break outer;
+                }
+                if (cursors[i].doc() != doc) {
+                    continue outer;
+                }
+            }
+
+            long bookId = segment.bookId(doc);
+            // 델타에 새 사본이 있으면 예전 사본은 건너뜁니다.
+            if (checkDelta && delta.contains(bookId)) {
+                continue;
+            }
+
+            // 점수는 델타와 같은 순서(검색어 순서)로 더해서, 같은 문서면 어느 세그먼트에 있든 같은 값이 나오게 합니다.
+            for (int i = 0; i < cursors.length; i++) {
+                tfs[order[i]] = cursors[i].tf();
+            }
+            double score = 0;
+            int length = segment.docLength(doc);
+            for (int i = 0; i < tfs.length; i++) {
+                score += bm25(idf[i], tfs[i], length, averageLength);
+            }
+
+            hits++;
+            offer(top, new Hit(bookId, score), limit);
+        }
+        return hits;
+    }
+
+    private static double bm25(double idf, int tf, int length, double averageLength) {
+        return idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private static void offer(PriorityQueue<Hit> top, Hit hit, int limit) {
+        if (top.size() < limit) {
+            top.add(hit);
+        } else if (WORST_FIRST.compare(hit, top.peek()) > 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    private record Hit(long bookId, double score) {
+    }
+
+    // 점수가 낮을수록, 같으면 bookId 가 클수록 먼저 밀려납니다. (동점이면 작은 bookId 가 앞 -> 노드/세그먼트와 상관없이 같은 순서)
+    private static final Comparator<Hit> WORST_FIRST =
+            Comparator.comparingDouble(Hit::score).thenComparing(Hit::bookId, Comparator.reverseOrder());
+}
@@ -0,0 +1,201 @@
+package com.nhnacademy.book.search;
+
+import com.nhnacademy.book.job.CatalogImportedEvent;
+import com.nhnacademy.book.job.ImportType;
+import com.nhnacademy.book.snapshot.CatalogSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 검색창 자동완성 (제목 / 저자 / 출판사)
+// 도서 적재가 끝날 때(부팅 시에는 CatalogWarmer 가) 트라이를 새로 만들어 volatile 참조를 한 번에 바꿉니다. (읽는 쪽은 잠금 없음)
+// 인기는 같은 제목/저자/출판사의 도서 수이며, 항목 수는 book.suggest.max-entries 로 제한합니다. (만드는 동안에도 그 이상 들고 있지 않음)
+@Slf4j
+@Component
+public class BookSuggestIndex {
+
+    // 앞뒤 공백만 다른 제목은 같은 제목으로 묶습니다.
+    private static final String SELECT_TITLES = "select trim(book_name), count(*) from book group by trim(book_name)";
+
+    private static final String SELECT_AUTHORS = "select a.author_name, count(*) from author a "
+            + "join book_author ba on ba.author_id = a.author_id group by a.author_id, a.author_name";
+
+    private static final String SELECT_PUBLISHERS = "select p.publisher_name, count(*) from publisher p "
+            + "join book b on b.publisher_id = p.publisher_id group by p.publisher_id, p.publisher_name";
+
+    // 화면에 보여줄 제목 최대 길이
+    private static final int MAX_TEXT_LENGTH = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final int maxEntries;
+    private final int topK;
+    private final int maxDepth;
+
+    private volatile PrefixTrie trie = PrefixTrie.empty();
+
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-suggest-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    public BookSuggestIndex(JdbcTemplate jdbcTemplate,
+                            @Value("${book.search.fetch-size:1000}") int fetchSize,
+                            @Value("${book.suggest.max-entries:300000}") int maxEntries,
+                            @Value("${book.suggest.top-k:10}") int topK,
+                            @Value("${book.suggest.max-depth:20}") int maxDepth) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+        this.maxEntries = maxEntries;
+        this.topK = topK;
+        this.maxDepth = maxDepth;
+    }
+
+    @EventListener
+    public void onImported(CatalogImportedEvent event) {
+        if (event.type() == ImportType.BOOK) {
+            rebuildAsync();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    public void rebuildAsync() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildQueued.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("[SUGGEST] 자동완성 색인 생성 실패: {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    // 노드당 최대 topK 개까지만 돌려줍니다.
+    public List<PrefixTrie.Entry> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, topK));
+    }
+
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+
+        TopEntries top = new TopEntries(maxEntries);
+
+        // 1. 제목: 같은 제목(판본 등)은 DB 에서 묶어 도서 수를 인기로 씁니다. (상위 maxEntries 개만 들고 있음)
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_TITLES);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> offer(top, rs.getString(1), PrefixTrie.Kind.TITLE, rs.getInt(2)));
+
+        // 2. 저자 / 출판사: 이름별 도서 수
+        jdbcTemplate.query(SELECT_AUTHORS, (RowCallbackHandler) rs ->
+                offer(top, rs.getString(1), PrefixTrie.Kind.AUTHOR, rs.getInt(2)));
+        jdbcTemplate.query(SELECT_PUBLISHERS, (RowCallbackHandler) rs ->
+                offer(top, rs.getString(1), PrefixTrie.Kind.PUBLISHER, rs.getInt(2)));
+
+        install(top.entries(), top.offered(), "DB", startedAt);
+    }
+
+    // 카탈로그 스냅샷에서 만듭니다. (저자/출판사 사전에 도서 수가 들어 있음)
+    // 스냅샷의 도서는 제목 순이 아니므로 제목별 도서 수를 바로 셀 수 없습니다. 제목 전체를 맵에 모으지 않도록
+    // 고정 크기 스케치로 어림해 상위 후보를 고른 뒤, 남은 후보(maxEntries 개 이하)만 다시 정확히 셉니다.
+    public synchronized void load(CatalogSnapshot snapshot) throws IOException {
+        long startedAt = System.nanoTime();
+
+        // 1. 제목별 도서 수 어림
+        CountMinSketch titleCounts = new CountMinSketch(maxEntries);
+        CatalogSnapshot.BookCursor books = snapshot.books();
+        while (books.next()) {
+            String title = displayText(books.title());
+            if (!title.isEmpty()) {
+                titleCounts.add(title);
+            }
+        }
+
+        // 2. 어림값으로 상위 후보를 고릅니다. (저자/출판사는 정확한 수)
+        TopEntries top = new TopEntries(maxEntries);
+        books = snapshot.books();
+        while (books.next()) {
+            String title = displayText(books.title());
+            if (!title.isEmpty()) {
+                top.offer(title, PrefixTrie.Kind.TITLE, titleCounts.estimate(title));
+            }
+        }
+        offerNames(top, snapshot.authors(), PrefixTrie.Kind.AUTHOR);
+        offerNames(top, snapshot.publishers(), PrefixTrie.Kind.PUBLISHER);
+
+        // 3. 남은 제목만 다시 세어 어림값을 정확한 도서 수로 바꿉니다.
+        List<PrefixTrie.Entry> entries = top.entries();
+        Map<String, int[]> exact = new HashMap<>();
+        for (PrefixTrie.Entry entry : entries) {
+            if (entry.kind() == PrefixTrie.Kind.TITLE) {
+                exact.put(entry.text(), new int[1]);
+            }
+        }
+        books = snapshot.books();
+        while (books.next()) {
+            int[] count = exact.get(displayText(books.title()));
+            if (count != null) {
+                count[0]++;
+            }
+        }
+        entries.replaceAll(entry -> entry.kind() == PrefixTrie.Kind.TITLE
+                ? new PrefixTrie.Entry(entry.text(), entry.kind(), exact.get(entry.text())[0])
+                : entry);
+
+        install(entries, top.offered(), "스냅샷", startedAt);
+    }
+
+    private void install(List<PrefixTrie.Entry> entries, long candidates, String source, long startedAt) {
+        PrefixTrie built = PrefixTrie.build(entries, topK, maxDepth);
+        trie = built;
+
+        log.info("[SUGGEST] 자동완성 색인 생성({}): 항목 {} 개 (후보 {} 건), 노드 {} 개 ({} ms)",
+                source, built.size(), candidates, built.nodeCount(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // DB 쿼리와 같이 도서가 있는 이름만 넣습니다.
+    private static void offerNames(TopEntries top, CatalogSnapshot.NameCursor names, PrefixTrie.Kind kind) {
+        while (names.next()) {
+            if (names.bookCount() > 0) {
+                offer(top, names.name(), kind, names.bookCount());
+            }
+        }
+    }
+
+    private static void offer(TopEntries top, String name, PrefixTrie.Kind kind, int books) {
+        String text = displayText(name);
+        if (!text.isEmpty()) {
+            top.offer(text, kind, books);
+        }
+    }
+
+    private static String displayText(String text) {
+        if (text == null) {
+            return "";
+        }
+        String trimmed = text.strip();
+        return trimmed.length() > MAX_TEXT_LENGTH ? trimmed.substring(0, MAX_TEXT_LENGTH) : trimmed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.book.search;
+
+// 글별 출현 수를 고정 크기 표로 어림합니다. (Count-Min sketch)
+// 행마다 다른 해시로 칸 하나를 올리고, 어림값은 행들 중 가장 작은 칸입니다. 실제 수보다 작게 나오지는 않습니다.
+// 메모리: DEPTH x width 개 int (width 는 expectedKeys 이상인 2 의 거듭제곱)
+final class CountMinSketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_WIDTH = 1 << 22;
+
+    private final int[][] counts;
+    private final int mask;
+
+    CountMinSketch(int expectedKeys) {
+        int width = Integer.highestOneBit(Math.min(Math.max(expectedKeys, 1024), MAX_WIDTH) - 1) << 1;
+        this.counts = new int[DEPTH][width];
+        this.mask = width - 1;
+    }
+
+    void add(String text) {
+        long hash = hash(text);
+        for (int row = 0; row < DEPTH; row++) {
+            int[] cells = counts[row];
+            int cell = cell(hash, row);
+            if (cells[cell] < Integer.MAX_VALUE) {
+                cells[cell]++;
+            }
+        }
+    }
+
+    int estimate(String text) {
+        long hash = hash(text);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counts[row][cell(hash, row)]);
+        }
+        return min;
+    }
+
+    // 64 비트 해시의 위/아래 32 비트로 행별 해시를 만듭니다. (h1 + row * h2)
+    private int cell(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + row * h2) & mask;
+    }
+
+    private static long hash(String text) {
+        long hash = text.hashCode() * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 29;
+        hash *= 0xBF58476D1CE4E5B9L;
+        return hash ^ (hash >>> 32);
+    }
+}
@@ -0,0 +1,129 @@
+package com.nhnacademy.book.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 본 세그먼트를 다시 만들기 전까지 등록/수정된 도서 (BookSearchIndex 의 잠금 안에서만 씁니다)
+// 1. 용어 -> bookId 역색인을 따로 두어, 검색 때 델타 전체를 훑지 않고 가장 드문 용어를 가진 문서만 봅니다.
+// 2. 본 세그먼트에 예전 사본이 있는 도서는 그 사본을 가린 것으로 보고, 가린 문서 수/길이를 세어 통계에서 뺍니다.
+final class DeltaSegment {
+
+    // 델타 문서: 용어, 변경 순번, 본 세그먼트에서 가린 예전 사본의 문서 번호(없으면 -1)와 길이
+    record Doc(IndexSegment.DocTerms terms, long sequence, int mainDoc, int mainLength) {
+    }
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<Integer, Set<Long>> postings = new HashMap<>();
+    private long totalLength;
+    private int hiddenCount;
+    private long hiddenLength;
+
+    // 가린 본 문서 번호 (오름차순). 바뀌면 버리고 필요할 때 다시 만듭니다.
+    private volatile int[] hiddenDocs = new int[0];
+
+    int size() {
+        return docs.size();
+    }
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    int hiddenCount() {
+        return hiddenCount;
+    }
+
+    long hiddenLength() {
+        return hiddenLength;
+    }
+
+    boolean contains(long bookId) {
+        return docs.containsKey(bookId);
+    }
+
+    IndexSegment.DocTerms terms(long bookId) {
+        return docs.get(bookId).terms();
+    }
+
+    int docFrequency(int term) {
+        return docsWith(term).size();
+    }
+
+    Set<Long> docsWith(int term) {
+        return postings.getOrDefault(term, Set.of());
+    }
+
+    int[] hiddenDocs() {
+        int[] sorted = hiddenDocs;
+        if (sorted == null) {
+            sorted = docs.values().stream().mapToInt(Doc::mainDoc).filter(doc -> doc >= 0).sorted().toArray();
+            hiddenDocs = sorted;
+        }
+        return sorted;
+    }
+
+    // 같은 도서가 다시 들어오면 예전 델타 문서를 바꿉니다.
+    void put(long bookId, IndexSegment.DocTerms terms, long sequence, IndexSegment main) {
+        remove(bookId);
+
+        int mainDoc = main.docOf(bookId);
+        Doc doc = new Doc(terms, sequence, mainDoc, mainDoc < 0 ? 0 : main.docLength(mainDoc));
+        docs.put(bookId, doc);
+        totalLength += terms.length();
+        for (int term : terms.terms()) {
+            postings.computeIfAbsent(term, key -> new HashSet<>()).add(bookId);
+        }
+        if (doc.mainDoc() >= 0) {
+            hiddenCount++;
+            hiddenLength += doc.mainLength();
+            hiddenDocs = null;
+        }
+    }
+
+    // 본 세그먼트를 바꾼 뒤 호출합니다. upTo 이하 순번의 변경은 새 본 세그먼트에 들어 있으므로 버리고,
+    // 남은 문서는 새 본 세그먼트 기준으로 가린 사본을 다시 찾습니다.
+    void rebase(IndexSegment main, long upTo) {
+        List<Map.Entry<Long, Doc>> remaining = new ArrayList<>();
+        for (Map.Entry<Long, Doc> entry : docs.entrySet()) {
+            if (entry.getValue().sequence() > upTo) {
+                remaining.add(entry);
+            }
+        }
+
+        docs.clear();
+        postings.clear();
+        totalLength = 0;
+        hiddenCount = 0;
+        hiddenLength = 0;
+        hiddenDocs = new int[0];
+
+        for (Map.Entry<Long, Doc> entry : remaining) {
+            put(entry.getKey(), entry.getValue().terms(), entry.getValue().sequence(), main);
+        }
+    }
+
+    private void remove(long bookId) {
+        Doc old = docs.remove(bookId);
+        if (old == null) {
+            return;
+        }
+
+        totalLength -= old.terms().length();
+        for (int term : old.terms().terms()) {
+            Set<Long> bookIds = postings.get(term);
+            bookIds.remove(bookId);
+            if (bookIds.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        if (old.mainDoc() >= 0) {
+            hiddenCount--;
+            hiddenLength -= old.mainLength();
+            hiddenDocs = null;
+        }
+    }
+}
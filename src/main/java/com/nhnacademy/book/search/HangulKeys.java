@@ -0,0 +1,50 @@
+package com.nhnacademy.book.search;
+
+import java.text.Normalizer;
+
+// 자동완성 키 만들기
+// 1. 정규화 키: NFKC + 소문자, 글자/숫자만 남김 ("자바의 정석 (3판)" -> "자바의정석3판") -> 띄어쓰기와 상관없이 맞춤
+// 2. 초성 키: 한글 음절을 초성으로 바꾼 키 ("한강" -> "ㅎㄱ")
+//    NFKC 는 호환 자모(ㅎ, U+314E)를 첫소리 자모(U+1112)로 바꾸므로, 초성도 첫소리 자모(U+1100~)로 만듭니다.
+//    그래서 사용자가 입력한 "ㅎㄱ" 을 같은 normalize 에 통과시키면 그대로 초성 키와 맞습니다.
+public final class HangulKeys {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    // 음절 하나에 중성 21 * 종성 28 = 588 개
+    private static final int SYLLABLES_PER_INITIAL = 588;
+    private static final char CHOSEONG_FIRST = 'ᄀ';
+
+    private HangulKeys() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder key = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    // 정규화된 키의 한글 음절만 초성으로 바꿉니다. (음절이 없으면 null)
+    public static String choseong(String normalizedKey) {
+        char[] chars = normalizedKey.toCharArray();
+        boolean changed = false;
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                chars[i] = (char) (CHOSEONG_FIRST + (c - SYLLABLE_FIRST) / SYLLABLES_PER_INITIAL);
+                changed = true;
+            }
+        }
+        return changed ? new String(chars) : null;
+    }
+}
@@ -0,0 +1,166 @@
+package com.nhnacademy.book.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 검색 색인의 본 세그먼트 (만든 뒤에는 바뀌지 않음)
+// 문서 번호는 0 부터 bookId 오름차순으로 붙이며, 용어 사전은 정렬된 int 배열이라 이진 탐색으로 찾습니다.
+public final class IndexSegment {
+
+    // 제목은 소개글보다 두 배로 셉니다. (BM25F 를 단순화한 가중치)
+    static final int TITLE_WEIGHT = 2;
+
+    private final long[] bookIds;
+    private final int[] docLengths;
+    private final long totalLength;
+
+    private final int[] terms;
+    private final int[] docFrequencies;
+    private final byte[][] postings;
+
+    private IndexSegment(long[] bookIds, int[] docLengths, long totalLength,
+                         int[] terms, int[] docFrequencies, byte[][] postings) {
+        this.bookIds = bookIds;
+        this.docLengths = docLengths;
+        this.totalLength = totalLength;
+        this.terms = terms;
+        this.docFrequencies = docFrequencies;
+        this.postings = postings;
+    }
+
+    public static IndexSegment empty() {
+        return new Builder().build();
+    }
+
+    public int docCount() {
+        return bookIds.length;
+    }
+
+    public long totalLength() {
+        return totalLength;
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    public long bookId(int doc) {
+        return bookIds[doc];
+    }
+
+    public int docLength(int doc) {
+        return docLengths[doc];
+    }
+
+    // bookId 의 문서 번호 (없으면 -1)
+    public int docOf(long bookId) {
+        int doc = Arrays.binarySearch(bookIds, bookId);
+        return doc < 0 ? -1 : doc;
+    }
+
+    // 없는 용어면 0
+    public int docFrequency(int term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index < 0 ? 0 : docFrequencies[index];
+    }
+
+    // 없는 용어면 null
+    public PostingList.Cursor postings(int term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index < 0 ? null : new PostingList.Cursor(postings[index]);
+    }
+
+    // 색인된 한 문서의 용어별 빈도 (정렬된 용어, 같은 순서의 tf, 가중 길이)
+    record DocTerms(int[] terms, int[] tfs, int length) {
+
+        static DocTerms of(String title, String description) {
+            int[] titleTokens = BigramTokenizer.tokenize(title);
+            int[] descriptionTokens = BigramTokenizer.tokenize(description);
+            Arrays.sort(titleTokens);
+            Arrays.sort(descriptionTokens);
+
+            // 정렬된 두 배열을 한 번에 훑으면서 용어별로 센 뒤, 제목 쪽은 TITLE_WEIGHT 배로 더합니다.
+            int[] terms = new int[titleTokens.length + descriptionTokens.length];
+            int[] tfs = new int[terms.length];
+            int count = 0;
+            int t = 0;
+            int d = 0;
+            while (t < titleTokens.length || d < descriptionTokens.length) {
+                int term = d >= descriptionTokens.length
+                        || (t < titleTokens.length && titleTokens[t] < descriptionTokens[d])
+                        ? titleTokens[t] : descriptionTokens[d];
+
+                int tf = 0;
+                while (t < titleTokens.length && titleTokens[t] == term) {
+                    tf += TITLE_WEIGHT;
+                    t++;
+                }
+                while (d < descriptionTokens.length && descriptionTokens[d] == term) {
+                    tf++;
+                    d++;
+                }
+
+                terms[count] = term;
+                tfs[count] = tf;
+                count++;
+            }
+
+            int length = titleTokens.length * TITLE_WEIGHT + descriptionTokens.length;
+            return new DocTerms(Arrays.copyOf(terms, count), Arrays.copyOf(tfs, count), length);
+        }
+
+        // 이 문서의 tf (없으면 0)
+        int tf(int term) {
+            int index = Arrays.binarySearch(terms, term);
+            return index < 0 ? 0 : tfs[index];
+        }
+    }
+
+    // bookId 오름차순으로 문서를 넣고 build() 로 세그먼트를 만듭니다. (단일 스레드)
+    public static final class Builder {
+        private long[] bookIds = new long[1024];
+        private int[] docLengths = new int[1024];
+        private int docCount;
+        private long totalLength;
+        private final Map<Integer, PostingList.Builder> postings = new HashMap<>();
+
+        public void add(long bookId, String title, String description) {
+            add(bookId, DocTerms.of(title, description));
+        }
+
+        void add(long bookId, DocTerms doc) {
+            if (docCount == bookIds.length) {
+                bookIds = Arrays.copyOf(bookIds, docCount * 2);
+                docLengths = Arrays.copyOf(docLengths, docCount * 2);
+            }
+
+            int docNumber = docCount++;
+            bookIds[docNumber] = bookId;
+            docLengths[docNumber] = doc.length();
+            totalLength += doc.length();
+
+            for (int i = 0; i < doc.terms().length; i++) {
+                postings.computeIfAbsent(doc.terms()[i], term -> new PostingList.Builder()).add(docNumber, doc.tfs()[i]);
+            }
+        }
+
+        public int docCount() {
+            return docCount;
+        }
+
+        public IndexSegment build() {
+            int[] terms = postings.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            int[] docFrequencies = new int[terms.length];
+            byte[][] encoded = new byte[terms.length][];
+            for (int i = 0; i < terms.length; i++) {
+                PostingList.Builder builder = postings.get(terms[i]);
+                docFrequencies[i] = builder.docFrequency();
+                encoded[i] = builder.toBytes();
+            }
+
+            return new IndexSegment(Arrays.copyOf(bookIds, docCount), Arrays.copyOf(docLengths, docCount), totalLength,
+                    terms, docFrequencies, encoded);
+        }
+    }
+}
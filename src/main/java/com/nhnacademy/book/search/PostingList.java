@@ -0,0 +1,101 @@
+package com.nhnacademy.book.search;
+
+import java.util.Arrays;
+
+// 압축된 포스팅 리스트: (문서 번호 차이, tf) 를 varint 로 이어 붙인 바이트 배열
+// 문서 번호가 오름차순이라 차이가 작으므로 대부분 한 쌍이 2~3 바이트에 들어갑니다.
+public final class PostingList {
+
+    private PostingList() {
+    }
+
+    // 쓰기: 문서 번호 오름차순으로만 추가합니다.
+    public static final class Builder {
+        private byte[] bytes = new byte[8];
+        private int length;
+        private int lastDoc = -1;
+        private int docFrequency;
+
+        public void add(int doc, int tf) {
+            writeVarint(doc - lastDoc);
+            writeVarint(tf);
+            lastDoc = doc;
+            docFrequency++;
+        }
+
+        public int docFrequency() {
+            return docFrequency;
+        }
+
+        public byte[] toBytes() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        private void writeVarint(int value) {
+            if (length + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+    }
+
+    // 읽기: 앞에서부터 한 건씩 풉니다.
+    public static final class Cursor {
+        private final byte[] bytes;
+        private int position;
+        private int doc = -1;
+        private int tf;
+        private boolean exhausted;
+
+        public Cursor(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        public boolean next() {
+            if (position >= bytes.length) {
+                exhausted = true;
+                return false;
+            }
+            doc += readVarint();
+            tf = readVarint();
+            return true;
+        }
+
+        // target 이상인 첫 문서로 이동합니다. (없으면 false)
+        public boolean advance(int target) {
+            if (exhausted) {
+                return false;
+            }
+            while (doc < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public int doc() {
+            return doc;
+        }
+
+        public int tf() {
+            return tf;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
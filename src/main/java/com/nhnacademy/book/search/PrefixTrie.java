@@ -0,0 +1,293 @@
+package com.nhnacademy.book.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// 자동완성용 접두사 트라이 (만든 뒤에는 바뀌지 않음)
+//
+// 노드는 객체 없이 배열로만 표현합니다. 자식은 연속된 번호에 글자 순으로 놓이므로 이진 탐색으로 내려갑니다.
+// 노드마다 그 아래 항목 중 인기 상위 k 개를 미리 적어 두어, 검색은 접두사 길이만큼 내려간 뒤 목록을 읽기만 합니다.
+// 항목 번호는 인기 순위(가중치 내림차순, 짧은 글 우선)로 매기므로 "상위 k 개" 는 번호가 작은 k 개입니다.
+//
+// 메모리 상한: 항목 수(호출하는 쪽에서 제한), 키 길이(maxDepth), 노드당 목록 길이(topK)
+public final class PrefixTrie {
+
+    public enum Kind {
+        TITLE, AUTHOR, PUBLISHER
+    }
+
+    // weight: 인기 (같은 제목/저자/출판사의 도서 수)
+    public record Entry(String text, Kind kind, int weight) {
+    }
+
+    // 인기 순위: 가중치 내림차순, 짧은 글 우선 (같은 글이면 종류 순)
+    static final Comparator<Entry> RANK = Comparator.comparingInt(Entry::weight).reversed()
+            .thenComparingInt(entry -> entry.text().length())
+            .thenComparing(Entry::text)
+            .thenComparing(Entry::kind);
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private final int maxDepth;
+
+    // 항목 (번호 = 인기 순위)
+    private final String[] texts;
+    private final byte[] kinds;
+    private final int[] weights;
+    private final String[] keys;
+
+    // 노드 (0 = 루트)
+    private final char[] labels;
+    private final int[] childStart;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final byte[] topCount;
+    private final int[] top;
+
+    private PrefixTrie(int maxDepth, String[] texts, byte[] kinds, int[] weights, String[] keys, char[] labels,
+                       int[] childStart, int[] childCount, int[] topStart, byte[] topCount, int[] top) {
+        this.maxDepth = maxDepth;
+        this.texts = texts;
+        this.kinds = kinds;
+        this.weights = weights;
+        this.keys = keys;
+        this.labels = labels;
+        this.childStart = childStart;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.top = top;
+    }
+
+    public static PrefixTrie empty() {
+        return build(List.of(), 1, 1);
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    // prefix 로 시작하는(초성 포함) 항목을 인기 순으로 limit 개까지
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = HangulKeys.normalize(prefix);
+        if (key.isEmpty() || texts.length == 0) {
+            return List.of();
+        }
+
+        // 1. 키를 따라 내려갑니다. (maxDepth 보다 긴 접두사는 maxDepth 까지만 내려가고 아래에서 거름)
+        int node = 0;
+        int depth = Math.min(key.length(), maxDepth);
+        for (int i = 0; i < depth; i++) {
+            node = child(node, key.charAt(i));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+
+        // 2. 노드에 적어 둔 상위 목록을 그대로 읽습니다.
+        List<Entry> result = new ArrayList<>(Math.min(limit, topCount[node]));
+        for (int i = topStart[node]; i < topStart[node] + topCount[node] && result.size() < limit; i++) {
+            int entry = top[i];
+            if (key.length() > maxDepth && !matches(entry, key)) {
+                continue;
+            }
+            result.add(new Entry(texts[entry], KINDS[kinds[entry]], weights[entry]));
+        }
+        return result;
+    }
+
+    private boolean matches(int entry, String key) {
+        String choseong = HangulKeys.choseong(keys[entry]);
+        return keys[entry].startsWith(key) || (choseong != null && choseong.startsWith(key));
+    }
+
+    private int child(int node, char c) {
+        int from = childStart[node];
+        int to = from + childCount[node] - 1;
+        while (from <= to) {
+            int mid = (from + to) >>> 1;
+            if (labels[mid] < c) {
+                from = mid + 1;
+            } else if (labels[mid] > c) {
+                to = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public static PrefixTrie build(List<Entry> entries, int topK, int maxDepth) {
+        return new Builder(entries, topK, maxDepth).build();
+    }
+
+    // 키(정규화 키 + 초성 키)를 정렬한 뒤, 정렬 구간을 글자별로 나누며 깊이 우선으로 노드를 만듭니다.
+    // 한 노드의 자식은 그 노드를 처리할 때 한꺼번에 번호를 받으므로 연속됩니다.
+    private static final class Builder {
+        private final int topK;
+        private final int maxDepth;
+
+        private final String[] texts;
+        private final byte[] kinds;
+        private final int[] weights;
+        private final String[] entryKeys;
+
+        // 정렬된 (키, 항목 번호)
+        private final String[] keys;
+        private final int[] keyEntries;
+
+        private char[] labels = new char[1024];
+        private int[] childStart = new int[1024];
+        private int[] childCount = new int[1024];
+        private int[] topStart = new int[1024];
+        private byte[] topCount = new byte[1024];
+        private int nodeCount = 1;
+
+        private int[] top = new int[4096];
+        private int topLength;
+
+        Builder(List<Entry> entries, int topK, int maxDepth) {
+            this.topK = Math.min(topK, Byte.MAX_VALUE);
+            this.maxDepth = maxDepth;
+
+            List<Entry> ranked = new ArrayList<>(entries);
+            ranked.sort(RANK);
+
+            texts = new String[ranked.size()];
+            kinds = new byte[ranked.size()];
+            weights = new int[ranked.size()];
+            entryKeys = new String[ranked.size()];
+
+            List<String> keyList = new ArrayList<>(ranked.size() * 2);
+            List<Integer> keyEntryList = new ArrayList<>(ranked.size() * 2);
+            for (int i = 0; i < ranked.size(); i++) {
+                Entry entry = ranked.get(i);
+                texts[i] = entry.text();
+                kinds[i] = (byte) entry.kind().ordinal();
+                weights[i] = entry.weight();
+                entryKeys[i] = HangulKeys.normalize(entry.text());
+
+                String key = truncate(entryKeys[i]);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                keyList.add(key);
+                keyEntryList.add(i);
+
+                String choseong = HangulKeys.choseong(key);
+                if (choseong != null) {
+                    keyList.add(choseong);
+                    keyEntryList.add(i);
+                }
+            }
+
+            Integer[] order = new Integer[keyList.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(keyList::get));
+
+            keys = new String[order.length];
+            keyEntries = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = keyList.get(order[i]);
+                keyEntries[i] = keyEntryList.get(order[i]);
+            }
+        }
+
+        PrefixTrie build() {
+            buildNode(0, 0, keys.length, 0);
+
+            return new PrefixTrie(maxDepth, texts, kinds, weights, entryKeys, Arrays.copyOf(labels, nodeCount),
+                    Arrays.copyOf(childStart, nodeCount), Arrays.copyOf(childCount, nodeCount),
+                    Arrays.copyOf(topStart, nodeCount), Arrays.copyOf(topCount, nodeCount),
+                    Arrays.copyOf(top, topLength));
+        }
+
+        // keys[from, to) 는 모두 같은 depth 글자 접두사를 가집니다.
+        private void buildNode(int node, int from, int to, int depth) {
+            // 1. 이 노드에서 끝나는 키 (정렬되어 있으므로 짧은 키가 앞에 옴)
+            int start = from;
+            while (start < to && keys[start].length() == depth) {
+                start++;
+            }
+
+            // 2. 다음 글자별로 구간을 나누고 자식 번호를 연속으로 받습니다.
+            int children = 0;
+            for (int i = start; i < to; i++) {
+                if (i == start || keys[i].charAt(depth) != keys[i - 1].charAt(depth)) {
+                    children++;
+                }
+            }
+            int firstChild = allocate(children);
+            childStart[node] = firstChild;
+            childCount[node] = children;
+
+            // 3. 자식을 먼저 만들고(깊이 우선), 자식들의 상위 목록 + 여기서 끝나는 항목으로 이 노드의 목록을 만듭니다.
+            int[] candidates = new int[(start - from) + children * topK];
+            int candidateCount = 0;
+            for (int i = from; i < start; i++) {
+                candidates[candidateCount++] = keyEntries[i];
+            }
+
+            int child = firstChild;
+            int groupStart = start;
+            for (int i = start + 1; i <= to; i++) {
+                if (i == to || keys[i].charAt(depth) != keys[groupStart].charAt(depth)) {
+                    labels[child] = keys[groupStart].charAt(depth);
+                    buildNode(child, groupStart, i, depth + 1);
+
+                    for (int j = topStart[child]; j < topStart[child] + topCount[child]; j++) {
+                        candidates[candidateCount++] = top[j];
+                    }
+                    child++;
+                    groupStart = i;
+                }
+            }
+
+            // 번호가 작을수록 인기 순위가 높습니다. (같은 항목이 정규화 키와 초성 키로 두 번 올 수 있어 중복 제거)
+            Arrays.sort(candidates, 0, candidateCount);
+            ensureTopCapacity(topK);
+            topStart[node] = topLength;
+            int count = 0;
+            for (int i = 0; i < candidateCount && count < topK; i++) {
+                if (i > 0 && candidates[i] == candidates[i - 1]) {
+                    continue;
+                }
+                top[topLength++] = candidates[i];
+                count++;
+            }
+            topCount[node] = (byte) count;
+        }
+
+        private int allocate(int count) {
+            int first = nodeCount;
+            nodeCount += count;
+            if (nodeCount > labels.length) {
+                int capacity = Math.max(nodeCount, labels.length * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                childStart = Arrays.copyOf(childStart, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                topStart = Arrays.copyOf(topStart, capacity);
+                topCount = Arrays.copyOf(topCount, capacity);
+            }
+            return first;
+        }
+
+        private void ensureTopCapacity(int extra) {
+            if (topLength + extra > top.length) {
+                top = Arrays.copyOf(top, Math.max(topLength + extra, top.length * 2));
+            }
+        }
+
+        private String truncate(String key) {
+            return key.length() > maxDepth ? key.substring(0, maxDepth) : key;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.nhnacademy.book.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 자동완성 항목을 인기 상위 capacity 개까지만 담는 수집기
+// 인기 순위로 정렬된 집합에 담아 두고, 넘치면 가장 약한 항목(맨 뒤)을 버립니다. 메모리는 capacity 에 비례합니다.
+// 같은 (종류, 글) 이 다시 오면 처음 것을 그대로 둡니다.
+// 버려진 항목은 같은 가중치로 다시 와도 남은 항목들보다 약하므로 들어오지 못합니다. (맨 뒤 항목은 약해지지 않음)
+final class TopEntries {
+
+    private record Key(PrefixTrie.Kind kind, String text) {
+    }
+
+    private final int capacity;
+    private final TreeSet<PrefixTrie.Entry> ranked = new TreeSet<>(PrefixTrie.RANK);
+    private final Set<Key> held = new HashSet<>();
+    private long offered;
+
+    TopEntries(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    void offer(String text, PrefixTrie.Kind kind, int weight) {
+        offered++;
+        Key key = new Key(kind, text);
+        if (held.contains(key)) {
+            return;
+        }
+
+        PrefixTrie.Entry entry = new PrefixTrie.Entry(text, kind, weight);
+        if (ranked.size() == capacity) {
+            PrefixTrie.Entry weakest = ranked.last();
+            if (PrefixTrie.RANK.compare(entry, weakest) >= 0) {
+                return;
+            }
+            ranked.pollLast();
+            held.remove(new Key(weakest.kind(), weakest.text()));
+        }
+        ranked.add(entry);
+        held.add(key);
+    }
+
+    // 지금까지 offer 된 건수 (중복, 버려진 것 포함)
+    long offered() {
+        return offered;
+    }
+
+    // 인기 순
+    List<PrefixTrie.Entry> entries() {
+        return new ArrayList<>(ranked);
+    }
+}
@@ -1,8 +1,13 @@
 package com.nhnacademy.book.service;
 
+import com.nhnacademy.book.dto.BookBatchRequest;
+import com.nhnacademy.book.dto.BookBatchResponse;
 import com.nhnacademy.book.dto.BookCreateRequest;
 import com.nhnacademy.book.dto.BookDetailResponse;
 import com.nhnacademy.book.dto.BookListResponse;
+import com.nhnacademy.book.dto.BookSearchResponse;
+import com.nhnacademy.book.dto.BookSliceResponse;
+import com.nhnacademy.book.dto.BookSuggestResponse;
 import com.nhnacademy.book.dto.BookUpdateRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,9 +17,27 @@ public interface BookService {
     // 1. 도서 목록 조회 (List DTO 사용)
     Page<BookListResponse> getBooks(Pageable pageable);
 
+    // 1-1. 카테고리(하위 카테고리 포함) 도서 목록 조회
+    Page<BookListResponse> getBooksByCategory(Long categoryId, Pageable pageable);
+
+    // 1-2. 커서 방식 도서 목록 조회 (bookId 내림차순, 전체 개수 없음)
+    BookSliceResponse getBooksAfter(String after, int size);
+
+    // 1-3. 제목/소개글 검색 (관련도 순)
+    BookSearchResponse searchBooks(String query, int size);
+
+    // 1-4. 검색창 자동완성 (제목/저자/출판사, 초성 포함)
+    BookSuggestResponse suggest(String prefix, int size);
+
     // 2. 도서 상세 조회 (Detail DTO 사용)
     BookDetailResponse getBook(Long bookId);
 
+    // 2-1. ISBN 으로 도서 상세 조회 (ISBN-13, 하이픈 허용)
+    BookDetailResponse getBookByIsbn(String isbn);
+
+    // 2-2. 도서 여러 건 조회 (id / ISBN, 장바구니/주문 서비스용)
+    BookBatchResponse getBooks(BookBatchRequest request);
+
     // 3. 도서 등록 (Create Request DTO 사용)
     Long createBook(BookCreateRequest request);
 
@@ -0,0 +1,15 @@
+package com.nhnacademy.book.service;
+
+import com.nhnacademy.book.dto.CategoryResponse;
+import com.nhnacademy.book.dto.CategoryTreeResponse;
+
+import java.util.List;
+
+public interface CategoryService {
+
+    // 1. 카테고리 전체 트리 조회
+    List<CategoryTreeResponse> getCategoryTree();
+
+    // 2. 카테고리 단건 조회 (경로, 하위 카테고리 포함)
+    CategoryResponse getCategory(Long categoryId);
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.book.service;
+
+import com.nhnacademy.book.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+
+    // 1. 카탈로그 전체를 bookId 순서로 out 에 바로 씁니다. (반환 값: 내보낸 도서 수)
+    long exportBooks(ExportFormat format, OutputStream out) throws IOException;
+}
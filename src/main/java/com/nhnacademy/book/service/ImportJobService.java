@@ -0,0 +1,31 @@
+package com.nhnacademy.book.service;
+
+import com.nhnacademy.book.dto.ImportJobResponse;
+import com.nhnacademy.book.job.ImportType;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+public interface ImportJobService {
+
+    // 1. 업로드된 CSV 파일로 적재 작업 등록
+    ImportJobResponse submitUpload(ImportType type, MultipartFile file);
+
+    // 2. 서버에 있는 CSV 파일 경로로 적재 작업 등록
+    ImportJobResponse submitPath(ImportType type, String path);
+
+    // 2-1. 클래스패스 등 임의의 리소스로 적재 작업 등록 (부팅 시 초기 적재용)
+    // required: 적재 임대를 얻은 뒤 다시 확인하는 조건 (다른 노드가 먼저 적재했으면 건너뜀)
+    ImportJobResponse submitResource(ImportType type, Resource resource, BooleanSupplier required);
+
+    // 3. 작업 상태 조회
+    ImportJobResponse getJob(String jobId);
+
+    // 4. 작업 목록 조회
+    List<ImportJobResponse> getJobs();
+
+    // 5. 작업 취소
+    ImportJobResponse cancel(String jobId);
+}
@@ -0,0 +1,10 @@
+package com.nhnacademy.book.service;
+
+import com.nhnacademy.book.dto.RepriceRequest;
+import com.nhnacademy.book.dto.RepriceResponse;
+
+public interface PriceService {
+
+    // 1. 판매가 일괄 변경 (할인율 적용)
+    RepriceResponse reprice(RepriceRequest request);
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.book.service;
+
+import com.nhnacademy.book.dto.StockRequest;
+
+public interface StockService {
+
+    // 1. 재고 차감 (주문): 하나라도 부족하면 전체 취소
+    void reserve(StockRequest request);
+
+    // 2. 재고 복구 (주문 취소/반품)
+    void release(StockRequest request);
+}
@@ -1,44 +1,279 @@
 package com.nhnacademy.book.service.impl;
 
+import com.nhnacademy.book.cache.BookDetailCache;
+import com.nhnacademy.book.category.CategoryTree;
+import com.nhnacademy.book.category.CategoryTreeCache;
+import com.nhnacademy.book.dto.BookBatchRequest;
+import com.nhnacademy.book.dto.BookBatchResponse;
 import com.nhnacademy.book.dto.BookCreateRequest;
 import com.nhnacademy.book.dto.BookDetailResponse;
 import com.nhnacademy.book.dto.BookListResponse;
+import com.nhnacademy.book.dto.BookSearchResponse;
+import com.nhnacademy.book.dto.BookSliceResponse;
+import com.nhnacademy.book.dto.BookSuggestResponse;
 import com.nhnacademy.book.dto.BookUpdateRequest;
 import com.nhnacademy.book.entity.Book;
 import com.nhnacademy.book.entity.BookState;
+import com.nhnacademy.book.entity.Publisher;
+import com.nhnacademy.book.exception.StockChangedException;
+import com.nhnacademy.book.isbn.Isbn;
+import com.nhnacademy.book.isbn.IsbnIndex;
+import com.nhnacademy.book.parser.NameNormalizer;
 import com.nhnacademy.book.repository.BookRepository;
+import com.nhnacademy.book.repository.PublisherRepository;
+import com.nhnacademy.book.search.BookSearchIndex;
+import com.nhnacademy.book.search.BookSuggestIndex;
+import com.nhnacademy.book.search.PrefixTrie;
 import com.nhnacademy.book.service.BookService;
+import com.nhnacademy.book.snapshot.CatalogGenerationCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true) // 조회 최적화를 위해 기본 설정
 public class BookServiceImpl implements BookService {
 
     private final BookRepository bookRepository;
+    private final PublisherRepository publisherRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BookDetailCache bookDetailCache;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSuggestIndex bookSuggestIndex;
+    private final IsbnIndex isbnIndex;
+    private final CatalogGenerationCounter catalogGenerationCounter;
+
+    // 커서 방식 목록의 최대 페이지 크기
+    private static final int MAX_SLICE_SIZE = 100;
+
+    // 여러 건 조회 한 번에 받을 수 있는 최대 건수 (id + ISBN)
+    private static final int MAX_BATCH_SIZE = 500;
 
     // 1. 도서 목록 조회 구현 (BookListResponse 사용)
     @Override
     public Page<BookListResponse> getBooks(Pageable pageable) {
-        // JPA로 모든 Entity를 가져온 후, List DTO로 변환하여 반환
-        return bookRepository.findAll(pageable)
-                .map(BookListResponse::from);
+        // 목록 컬럼만 DTO 프로젝션으로 바로 조회합니다. (엔티티, 소개글 @Lob 을 읽지 않음)
+        return bookRepository.findListPage(pageable);
+    }
+
+    // 1-1. 카테고리 도서 목록 조회 구현
+    // 하위 카테고리는 메모리 트리에서 id 구간으로 바로 구하고, DB 에는 구간 조건 쿼리 한 번만 보냅니다.
+    @Override
+    public Page<BookListResponse> getBooksByCategory(Long categoryId, Pageable pageable) {
+        CategoryTree tree = categoryTreeCache.getTree();
+        List<CategoryTree.IdRange> ranges = tree.getDescendantRanges(categoryId);
+
+        return ranges.size() == 1
+                ? bookRepository.findListPageByCategoryRange(ranges.get(0).from(), ranges.get(0).to(), pageable)
+                : bookRepository.findListPageByCategoryIds(tree.getDescendantIds(categoryId), pageable);
+    }
+
+    // 1-2. 커서 방식 도서 목록 조회 구현
+    // 한 건 더 읽어서 다음 페이지가 있는지 판단합니다. (count 쿼리 없음)
+    @Override
+    public BookSliceResponse getBooksAfter(String after, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        Long afterId = BookSliceResponse.decodeCursor(after);
+
+        List<BookListResponse> books = bookRepository.findListPageAfter(afterId == null ? Long.MAX_VALUE : afterId,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = books.size() > pageSize;
+        List<BookListResponse> content = hasNext ? books.subList(0, pageSize) : books;
+
+        return BookSliceResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? BookSliceResponse.encodeCursor(content.get(content.size() - 1).getBookId()) : null)
+                .build();
+    }
+
+    // 1-3. 검색 구현
+    // 순위는 메모리 색인에서 정하고, DB 에는 고른 id 의 목록 컬럼만 IN 쿼리 한 번으로 읽습니다.
+    @Override
+    public BookSearchResponse searchBooks(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해야 합니다.");
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        BookSearchIndex.Result result = bookSearchIndex.search(query, limit);
+
+        Map<Long, BookListResponse> found = new HashMap<>();
+        if (!result.bookIds().isEmpty()) {
+            for (BookListResponse book : bookRepository.findListByIdIn(result.bookIds())) {
+                found.put(book.getBookId(), book);
+            }
+        }
+
+        // 색인이 정한 순서대로 (그 사이 지워진 도서는 빠짐)
+        List<BookListResponse> books = new ArrayList<>(result.bookIds().size());
+        for (Long bookId : result.bookIds()) {
+            BookListResponse book = found.get(bookId);
+            if (book != null) {
+                books.add(book);
+            }
+        }
+
+        return BookSearchResponse.builder()
+                .query(query)
+                .totalHits(result.totalHits())
+                .books(books)
+                .build();
+    }
+
+    // 1-4. 자동완성 구현 (메모리 트라이만 읽고 DB 에는 가지 않습니다)
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BookSuggestResponse suggest(String prefix, int size) {
+        List<BookSuggestResponse.Suggestion> suggestions = new ArrayList<>();
+        for (PrefixTrie.Entry entry : bookSuggestIndex.suggest(prefix, Math.max(size, 1))) {
+            suggestions.add(new BookSuggestResponse.Suggestion(entry.text(), entry.kind().name()));
+        }
+
+        return BookSuggestResponse.builder()
+                .prefix(prefix)
+                .suggestions(suggestions)
+                .build();
     }
 
     // 2. 도서 상세 조회 구현 (BookDetailResponse 사용)
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않습니다. (출판사는 같은 쿼리에서 함께 조회)
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public BookDetailResponse getBook(Long bookId) {
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 도서가 존재하지 않습니다. ID: " + bookId));
+        return bookDetailCache.get(bookId, () -> {
+            Book book = bookRepository.findDetailById(bookId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 도서가 존재하지 않습니다. ID: " + bookId));
 
-        // Entity를 Detail DTO로 변환하여 반환
+            // Entity를 Detail DTO로 변환하여 반환
+            return BookDetailResponse.from(book);
+        });
+    }
+
+    // 2-1. ISBN 으로 도서 상세 조회 구현
+    // 체크섬이 틀린 ISBN 은 DB 에 가기 전에 400 으로 거르고, bookId 는 메모리 색인에서 찾아 상세 캐시를 씁니다.
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BookDetailResponse getBookByIsbn(String isbn) {
+        // 1. 형식/체크섬 검사 (InvalidIsbnException -> 400)
+        long key = Isbn.parse(isbn);
+
+        // 2. 색인에 있으면 bookId 로 상세 조회 (캐시)
+        Long bookId = isbnIndex.findBookId(key);
+        if (bookId != null) {
+            return getBook(bookId);
+        }
+
+        // 3. 색인에 없으면(다른 노드에서 등록된 도서 등) DB 에서 한 번 찾고 색인에 채웁니다.
+        Set<String> candidates = new LinkedHashSet<>(List.of(Isbn.format(key), isbn));
+        Book book = bookRepository.findDetailsByIsbnIn(candidates).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("해당 ISBN 의 도서가 존재하지 않습니다. ISBN: " + isbn));
+
+        isbnIndex.putNow(key, book.getBookId());
         return BookDetailResponse.from(book);
     }
 
+    // 2-2. 도서 여러 건 조회 구현
+    // id 는 상세 캐시를 먼저 보고 없는 것만, ISBN 은 전부 IN 쿼리 한 번으로 읽습니다. 응답은 요청 순서를 지킵니다.
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BookBatchResponse getBooks(BookBatchRequest request) {
+        Set<Long> bookIds = new LinkedHashSet<>(request.getBookIds() == null ? List.of() : request.getBookIds());
+        Set<String> isbns = new LinkedHashSet<>(request.getIsbns() == null ? List.of() : request.getIsbns());
+        bookIds.remove(null);
+        isbns.remove(null);
+
+        if (bookIds.size() + isbns.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 도서는 최대 " + MAX_BATCH_SIZE + "건입니다.");
+        }
+
+        List<BookDetailResponse> books = new ArrayList<>(bookIds.size() + isbns.size());
+        List<Long> missingBookIds = new ArrayList<>();
+        List<String> missingIsbns = new ArrayList<>();
+
+        // 1. id
+        if (!bookIds.isEmpty()) {
+            Map<Long, BookDetailResponse> found = bookDetailCache.getAll(bookIds, misses -> {
+                Map<Long, BookDetailResponse> loaded = new HashMap<>();
+                for (Book book : bookRepository.findDetailsByIdIn(misses)) {
+                    loaded.put(book.getBookId(), BookDetailResponse.from(book));
+                }
+                return loaded;
+            });
+
+            for (Long bookId : bookIds) {
+                BookDetailResponse book = found.get(bookId);
+                if (book != null) {
+                    books.add(book);
+                } else {
+                    missingBookIds.add(bookId);
+                }
+            }
+        }
+
+        // 2. ISBN
+        // 단건 조회처럼 저장 형식(13 자리)과 받은 글을 함께 찾고, 결과는 받은 글 기준으로 돌려줍니다.
+        // 잘못된 ISBN 은 400 대신 받은 글 그대로만 찾습니다. (없으면 missingIsbns)
+        if (!isbns.isEmpty()) {
+            Map<String, String> normalized = new LinkedHashMap<>();
+            Set<String> candidates = new LinkedHashSet<>();
+            for (String isbn : isbns) {
+                long key = Isbn.parseOrInvalid(isbn);
+                String stored = key == Isbn.INVALID ? isbn : Isbn.format(key);
+                normalized.put(isbn, stored);
+                candidates.add(stored);
+                candidates.add(isbn);
+            }
+
+            long loadedAt = bookDetailCache.currentGeneration();
+            Map<String, BookDetailResponse> found = new HashMap<>();
+            Map<Long, BookDetailResponse> byId = new HashMap<>();
+            for (Book book : bookRepository.findDetailsByIsbnIn(candidates)) {
+                BookDetailResponse detail = BookDetailResponse.from(book);
+                found.put(book.getIsbn(), detail);
+                byId.put(book.getBookId(), detail);
+            }
+            bookDetailCache.putAll(byId, loadedAt);
+
+            // 표기만 다른 같은 ISBN(하이픈, ISBN-10)은 처음 것만 씁니다.
+            Set<String> seen = new HashSet<>();
+            for (Map.Entry<String, String> isbn : normalized.entrySet()) {
+                if (!seen.add(isbn.getValue())) {
+                    continue;
+                }
+                BookDetailResponse book = found.getOrDefault(isbn.getValue(), found.get(isbn.getKey()));
+                if (book != null) {
+                    books.add(book);
+                } else {
+                    missingIsbns.add(isbn.getKey());
+                }
+            }
+        }
+
+        return BookBatchResponse.builder()
+                .books(books)
+                .missingBookIds(missingBookIds)
+                .missingIsbns(missingIsbns)
+                .build();
+    }
+
     // 3. 도서 등록 구현 (BookCreateRequest 사용)
     @Override
     @Transactional // 쓰기 작업이므로 트랜잭션 필요
@@ -50,7 +285,7 @@ public class BookServiceImpl implements BookService {
         book.setIsbn(request.getIsbn());
         book.setBookName(request.getBookName());
         book.setBookDescription(request.getBookDescription());
-//        book.setBookPublisher(request.getBookPublisher());
+        book.setPublisher(findOrCreatePublisher(request.getBookPublisher()));
         book.setBookPublicationDate(request.getBookPublicationDate());
         book.setBookIndex(request.getBookIndex());
         book.setBookPackaging(request.isBookPackaging());
@@ -65,6 +300,11 @@ public class BookServiceImpl implements BookService {
 
         // 2. DB 저장 및 ID 반환
         Book savedBook = bookRepository.save(book);
+        catalogGenerationCounter.bump();
+
+        // 3. 검색 / ISBN 색인에는 커밋된 뒤에 반영됩니다.
+        bookSearchIndex.index(savedBook.getBookId(), savedBook.getBookName(), savedBook.getBookDescription());
+        isbnIndex.put(savedBook.getIsbn(), savedBook.getBookId());
         return savedBook.getBookId();
     }
 
@@ -82,7 +322,7 @@ public class BookServiceImpl implements BookService {
         double discountRate = request.getDiscountRate();
 
         // 판매가 계산: 정가 * (1 - 할인율/100)
-        int newSalePrice = (int) Math.round(regularPrice * (1 - discountRate / 100.0));
+        int newSalePrice = SalePriceRule.salePrice(regularPrice, discountRate);
 
         // 3. 요청받은 값과 계산된 판매가로 Entity 필드를 수정합니다.
         // (JPA의 변경 감지(Dirty Checking) 기능으로 자동 저장됩니다.)
@@ -91,12 +331,27 @@ public class BookServiceImpl implements BookService {
         book.setBookIndex(request.getBookIndex());
         book.setBookPackaging(request.isBookPackaging());
         book.setBookState(request.getBookState());
-        book.setBookStock(request.getBookStock());
         book.setBookImage(request.getBookImage());
 
         // 계산된 판매가 반영
         book.setBookSalePrice(newSalePrice);
 
+        // 재고는 변경 감지로 쓰지 않습니다. (주문 차감/취소 복원과 겹치면 덮어쓰므로)
+        // 조회한 재고에서 바뀌지 않았을 때만 조건부 update 로 바꾸고, 그 사이 바뀌었으면 409 로 알립니다.
+        int currentStock = book.getBookStock();
+        if (request.getBookStock() != currentStock) {
+            if (bookRepository.replaceStock(bookId, currentStock, request.getBookStock()) == 0) {
+                throw new StockChangedException(bookId, currentStock);
+            }
+        }
+
+        // 상세 캐시는 바로 지우고, 커밋 뒤에 한 번 더 지웁니다. (예전 판매가가 보이지 않도록)
+        bookDetailCache.evict(bookId);
+        catalogGenerationCounter.bump();
+
+        // 제목/소개글이 바뀌었을 수 있으므로 커밋 뒤에 검색 색인도 갱신합니다.
+        bookSearchIndex.index(bookId, book.getBookName(), book.getBookDescription());
+
         // @Transactional 메서드가 끝날 때, 변경된 내용이 자동으로 DB에 반영됩니다.
     }
 
@@ -111,8 +366,21 @@ public class BookServiceImpl implements BookService {
 
         // 2. 핵심 로직: BookState를 '판매 종료' 상태로 변경합니다.
         book.setBookState(BookState.SALE_END);
+        bookDetailCache.evict(bookId);
+        catalogGenerationCounter.bump();
 
         // @Transactional이 설정되어 있으므로, 이 시점에 변경 감지(Dirty Checking)를 통해
         // 별도로 save()를 호출하지 않아도 DB에 상태가 자동 반영됩니다.
     }
+
+    // 출판사 이름은 CSV 적재와 같은 규칙으로 정규화해서 찾고, 없으면 새로 만듭니다.
+    private Publisher findOrCreatePublisher(String publisherName) {
+        String name = NameNormalizer.normalize(publisherName);
+        if (name.isEmpty()) {
+            return null;
+        }
+
+        return publisherRepository.findFirstByPublisherName(name)
+                .orElseGet(() -> publisherRepository.save(new Publisher(name)));
+    }
 }
\ No newline at end of file
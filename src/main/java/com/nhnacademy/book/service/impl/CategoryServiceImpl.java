@@ -0,0 +1,30 @@
+package com.nhnacademy.book.service.impl;
+
+import com.nhnacademy.book.category.CategoryTreeCache;
+import com.nhnacademy.book.dto.CategoryResponse;
+import com.nhnacademy.book.dto.CategoryTreeResponse;
+import com.nhnacademy.book.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 카테고리 조회는 메모리 스냅샷만 읽고 DB 에 가지 않습니다.
+@Service
+@RequiredArgsConstructor
+public class CategoryServiceImpl implements CategoryService {
+
+    private final CategoryTreeCache categoryTreeCache;
+
+    // 1. 카테고리 전체 트리 조회
+    @Override
+    public List<CategoryTreeResponse> getCategoryTree() {
+        return categoryTreeCache.getTreeResponse();
+    }
+
+    // 2. 카테고리 단건 조회
+    @Override
+    public CategoryResponse getCategory(Long categoryId) {
+        return CategoryResponse.from(categoryTreeCache.getTree(), categoryId);
+    }
+}
@@ -0,0 +1,157 @@
+package com.nhnacademy.book.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.book.dto.ExportFormat;
+import com.nhnacademy.book.service.ExportService;
+import com.opencsv.CSVWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// 카탈로그 전체 내보내기 (검색/추천/분석 배치용)
+// offset 페이지를 수천 번 도는 대신, 앞으로만 읽는 쿼리 하나를 fetch size 단위로 받아 행마다 바로 응답에 씁니다.
+// 엔티티/영속성 컨텍스트를 거치지 않고 한 행씩만 들고 있으므로 도서 수와 상관없이 메모리가 일정합니다.
+// (MySQL 은 useCursorFetch=true 여야 fetch size 만큼씩 가져옵니다)
+@Slf4j
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final String SELECT_BOOKS = "select b.book_id, b.isbn, b.book_name, p.publisher_name, "
+            + "b.book_publication_date, b.book_state, b.book_stock, b.book_regular_price, b.book_sale_price, "
+            + "b.book_review_rate, b.book_image, b.book_description "
+            + "from book b left join publisher p on p.publisher_id = b.publisher_id order by b.book_id";
+
+    private static final String[] COLUMNS = {
+            "bookId", "isbn", "bookName", "publisherName", "bookPublicationDate", "bookState", "bookStock",
+            "bookRegularPrice", "bookSalePrice", "bookReviewRate", "bookImage", "bookDescription"
+    };
+
+    // 이 행 수마다 응답을 flush 합니다. (받는 쪽이 진행 상황을 바로 볼 수 있도록)
+    private static final int FLUSH_EVERY = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ExportServiceImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                             @Value("${book.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // 행을 쓰는 방법만 형식별로 다릅니다.
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+
+        void flush() throws IOException;
+    }
+
+    // 1. 카탈로그 내보내기 구현
+    @Override
+    public long exportBooks(ExportFormat format, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        long[] rows = new long[1];
+
+        // 응답 스트림은 호출한 쪽(컨트롤러)이 관리하므로 닫지 않고 flush 만 합니다.
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        RowWriter rowWriter = format == ExportFormat.CSV ? csvWriter(writer) : ndjsonWriter(writer);
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_BOOKS);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    rowWriter.write(rs);
+                    if (++rows[0] % FLUSH_EVERY == 0) {
+                        rowWriter.flush();
+                    }
+                } catch (IOException e) {
+                    // 받는 쪽이 끊으면 여기서 멈춰서 쿼리(커서)도 바로 닫힙니다.
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("[EXPORT] 카탈로그 내보내기 중단: {} 건 ({})", rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        rowWriter.flush();
+        writer.flush();
+
+        log.info("[EXPORT] 카탈로그 내보내기 완료: {} 건, {} ({} ms)",
+                rows[0], format.getExtension(), (System.nanoTime() - startedAt) / 1_000_000);
+        return rows[0];
+    }
+
+    // 한 줄에 JSON 객체 하나 (Jackson 스트리밍 API 로 바로 씀)
+    private RowWriter ndjsonWriter(Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        return new RowWriter() {
+            @Override
+            public void write(ResultSet rs) throws IOException, SQLException {
+                generator.writeStartObject();
+                generator.writeNumberField(COLUMNS[0], rs.getLong(1));
+                generator.writeStringField(COLUMNS[1], rs.getString(2));
+                generator.writeStringField(COLUMNS[2], rs.getString(3));
+                generator.writeStringField(COLUMNS[3], rs.getString(4));
+                Date publicationDate = rs.getDate(5);
+                generator.writeStringField(COLUMNS[4], publicationDate == null ? null : publicationDate.toLocalDate().toString());
+                generator.writeStringField(COLUMNS[5], rs.getString(6));
+                generator.writeNumberField(COLUMNS[6], rs.getInt(7));
+                generator.writeNumberField(COLUMNS[7], rs.getInt(8));
+                generator.writeNumberField(COLUMNS[8], rs.getInt(9));
+                generator.writeNumberField(COLUMNS[9], rs.getDouble(10));
+                generator.writeStringField(COLUMNS[10], rs.getString(11));
+                generator.writeStringField(COLUMNS[11], rs.getString(12));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+
+            @Override
+            public void flush() throws IOException {
+                generator.flush();
+            }
+        };
+    }
+
+    // 첫 줄은 헤더, 값은 OpenCSV 규칙으로 따옴표 처리 (소개글의 줄바꿈/쉼표 포함)
+    private RowWriter csvWriter(Writer writer) {
+        CSVWriter csvWriter = new CSVWriter(writer);
+        csvWriter.writeNext(COLUMNS);
+        String[] values = new String[COLUMNS.length];
+
+        return new RowWriter() {
+            @Override
+            public void write(ResultSet rs) throws SQLException {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = rs.getString(i + 1);
+                }
+                csvWriter.writeNext(values);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                csvWriter.flush();
+            }
+        };
+    }
+}
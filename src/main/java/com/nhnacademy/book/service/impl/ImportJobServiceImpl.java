@@ -0,0 +1,260 @@
+package com.nhnacademy.book.service.impl;
+
+import com.nhnacademy.book.dto.ImportJobResponse;
+import com.nhnacademy.book.job.CatalogImportedEvent;
+import com.nhnacademy.book.job.ImportJob;
+import com.nhnacademy.book.job.ImportJobStatus;
+import com.nhnacademy.book.job.ImportLeaseManager;
+import com.nhnacademy.book.job.ImportType;
+import com.nhnacademy.book.parser.BookParser;
+import com.nhnacademy.book.parser.CategoryParser;
+import com.nhnacademy.book.parser.ImportCancelledException;
+import com.nhnacademy.book.parser.ImportProgress;
+import com.nhnacademy.book.service.ImportJobService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private final BookParser bookParser;
+    private final CategoryParser categoryParser;
+    private final ImportLeaseManager importLeaseManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 노드 간에 공유하는 적재 임대 이름 (도서/카테고리 모두 같은 테이블 묶음을 쓰므로 하나만 둡니다)
+    private static final String LEASE_NAME = "catalog-import";
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    // 끝난 작업을 목록에 남겨두는 시간 (분). 지나면 작업 등록/목록 조회 때 정리합니다.
+    @Value("${book.import.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    // 적재 작업끼리는 같은 테이블을 쓰므로 한 번에 하나씩 순서대로 실행합니다.
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "import-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 1. 업로드 파일은 임시 파일로 스트리밍 저장한 뒤 적재합니다. (해시 계산 + 적재로 두 번 읽음)
+    @Override
+    public ImportJobResponse submitUpload(ImportType type, MultipartFile file) {
+        try {
+            Path tempFile = Files.createTempFile("book-import-", ".csv");
+            file.transferTo(tempFile);
+
+            return submit(type, file.getOriginalFilename(), new FileSystemResource(tempFile), tempFile, () -> true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일을 저장하지 못했습니다.", e);
+        }
+    }
+
+    // 2. 서버 파일 경로
+    @Override
+    public ImportJobResponse submitPath(ImportType type, String path) {
+        FileSystemResource resource = new FileSystemResource(path);
+        if (!resource.isReadable()) {
+            throw new IllegalArgumentException("읽을 수 있는 파일이 없습니다. 경로: " + path);
+        }
+
+        return submit(type, resource.getFilename(), resource, null, () -> true);
+    }
+
+    // 2-1. 리소스
+    @Override
+    public ImportJobResponse submitResource(ImportType type, Resource resource, BooleanSupplier required) {
+        return submit(type, resource.getFilename(), resource, null, required);
+    }
+
+    // 3. 작업 상태 조회
+    @Override
+    public ImportJobResponse getJob(String jobId) {
+        return ImportJobResponse.from(findJob(jobId));
+    }
+
+    // 4. 작업 목록 조회 (최근 작업 먼저)
+    @Override
+    public List<ImportJobResponse> getJobs() {
+        pruneFinishedJobs();
+
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(ImportJob::getCreatedAt).reversed())
+                .map(ImportJobResponse::from)
+                .toList();
+    }
+
+    // 5. 작업 취소: 실행 중이면 파이프라인이 다음 행을 읽을 때 멈추고, 대기 중(임대 대기 포함)이면 실행되지 않습니다.
+    @Override
+    public ImportJobResponse cancel(String jobId) {
+        ImportJob job = findJob(jobId);
+        if (!job.isFinished()) {
+            job.getProgress().cancel();
+
+            // 아직 시작하지 않은 작업은 여기서 끝냅니다. run() 이 이미 임대를 기다리는 중이어도
+            // 상태가 먼저 CANCELLED 로 바뀌므로 실행되지 않고, 두 번 끝나지도 않습니다.
+            if (job.cancelQueued()) {
+                if (job.getFuture() != null) {
+                    job.getFuture().cancel(false);
+                }
+                closed(job);
+            }
+        }
+
+        return ImportJobResponse.from(job);
+    }
+
+    private ImportJobResponse submit(ImportType type, String fileName, Resource resource, Path tempFile,
+                                     BooleanSupplier required) {
+        pruneFinishedJobs();
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), type, fileName, required, tempFile);
+        jobs.put(job.getJobId(), job);
+
+        job.setFuture(executor.submit(() -> run(job, resource)));
+        log.info("[CSV] 적재 작업 등록: {} ({}, {})", job.getJobId(), type, fileName);
+
+        return ImportJobResponse.from(job);
+    }
+
+    // 여러 노드가 떠 있어도 적재는 임대를 가진 한 노드에서만 실행됩니다.
+    // 다른 노드의 작업은 QUEUED 상태로 임대가 풀리길 기다렸다가, 실행 조건을 다시 확인합니다.
+    private void run(ImportJob job, Resource resource) {
+        ImportProgress progress = job.getProgress();
+        if (job.isFinished()) {
+            return;
+        }
+
+        try (ImportLeaseManager.Lease lease = importLeaseManager.acquire(LEASE_NAME, progress::isCancelled, progress::cancel)) {
+            if (lease == null || progress.isCancelled()) {
+                finish(job, ImportJobStatus.CANCELLED, null);
+                return;
+            }
+
+            if (!job.getRequired().getAsBoolean()) {
+                log.info("[CSV] 다른 노드에서 이미 적재했습니다. 건너뜁니다: {} ({})", job.getJobId(), job.getType());
+                finish(job, ImportJobStatus.COMPLETED, null);
+                eventPublisher.publishEvent(new CatalogImportedEvent(job.getType()));
+                return;
+            }
+
+            // 임대를 기다리는 사이 취소로 끝났으면 실행하지 않습니다.
+            if (!job.start()) {
+                return;
+            }
+
+            // 적재의 쓰기 트랜잭션은 모두 임대를 아직 가졌는지 확인한 뒤에만 커밋됩니다.
+            progress.setWriteFence(lease::fence);
+
+            try {
+                switch (job.getType()) {
+                    case BOOK -> bookParser.parse(resource, progress);
+                    case CATEGORY -> {
+                        progress.start(resource.contentLength());
+                        try (Reader reader = new InputStreamReader(progress.track(resource.getInputStream()), StandardCharsets.UTF_8)) {
+                            categoryParser.parse(reader, progress);
+                        }
+                    }
+                }
+            } catch (ImportCancelledException | InterruptedIOException e) {
+                // 임대를 잃어서 멈춘 경우는 취소가 아니라 실패로 남깁니다. (다른 노드가 체크포인트에서 이어받음)
+                if (lease.isLost()) {
+                    finish(job, ImportJobStatus.FAILED, "적재 임대를 잃어서 중단했습니다.");
+                    return;
+                }
+                throw e;
+            }
+
+            finish(job, ImportJobStatus.COMPLETED, null);
+            eventPublisher.publishEvent(new CatalogImportedEvent(job.getType()));
+        } catch (ImportCancelledException | InterruptedIOException e) {
+            finish(job, ImportJobStatus.CANCELLED, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(job, ImportJobStatus.CANCELLED, null);
+        } catch (Exception e) {
+            log.error("[CSV] 적재 작업 실패: {} ({})", job.getJobId(), e.getMessage(), e);
+            finish(job, ImportJobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    // 취소 요청과 실행 스레드가 동시에 끝내려 해도 먼저 끝낸 쪽만 반영됩니다.
+    private void finish(ImportJob job, ImportJobStatus status, String errorMessage) {
+        if (job.finish(status, errorMessage)) {
+            closed(job);
+        }
+    }
+
+    // 작업이 끝난 뒤 한 번만 실행됩니다. 업로드 임시 파일은 어느 경로로 끝나든 여기서 지웁니다.
+    private void closed(ImportJob job) {
+        deleteQuietly(job.getTempFile());
+
+        log.info("[CSV] 적재 작업 종료: {} -> {} (읽음 {} / 저장 {} / 거부 {})", job.getJobId(), job.getStatus(),
+                job.getProgress().getRowsRead(), job.getProgress().getRowsWritten(), job.getProgress().getRejects());
+    }
+
+    // 보관 시간이 지난 끝난 작업을 목록에서 지웁니다. (대기/실행 중인 작업은 남김)
+    private void pruneFinishedJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(expiredBefore));
+    }
+
+    private ImportJob findJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("해당 적재 작업이 존재하지 않습니다. ID: " + jobId);
+        }
+        return job;
+    }
+
+    private void deleteQuietly(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("[CSV] 임시 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행되지 못하고 버려지는 대기 작업도 취소로 끝내서 임시 파일을 지웁니다.
+        jobs.values().forEach(job -> {
+            job.getProgress().cancel();
+            if (job.cancelQueued()) {
+                closed(job);
+            }
+        });
+        executor.shutdownNow();
+    }
+}
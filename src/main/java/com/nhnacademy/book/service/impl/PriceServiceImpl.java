@@ -0,0 +1,119 @@
+package com.nhnacademy.book.service.impl;
+
+import com.nhnacademy.book.cache.BookDetailCache;
+import com.nhnacademy.book.category.CategoryTree;
+import com.nhnacademy.book.category.CategoryTreeCache;
+import com.nhnacademy.book.dto.RepriceRequest;
+import com.nhnacademy.book.dto.RepriceResponse;
+import com.nhnacademy.book.repository.BookRepository;
+import com.nhnacademy.book.service.PriceService;
+import com.nhnacademy.book.snapshot.CatalogGenerationCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 판매가 일괄 변경
+// 대상 도서 id 를 먼저 고른 뒤(id 목록 / 카테고리 / 출판사), 엔티티를 읽지 않고 UPDATE 한 문장으로 IN 절 청크를 한 번에 바꾸며,
+// 청크마다 트랜잭션을 따로 커밋합니다.
+// (프로모션 하나가 수만 건을 잠근 채로 오래 머무르지 않도록)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceServiceImpl implements PriceService {
+
+    private final BookRepository bookRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BookDetailCache bookDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogGenerationCounter catalogGenerationCounter;
+
+    // IN 절 하나에 넣는 도서 수
+    @Value("${book.reprice.chunk-size:1000}")
+    private int chunkSize;
+
+    // 1. 판매가 일괄 변경
+    @Override
+    public RepriceResponse reprice(RepriceRequest request) {
+        double factor = SalePriceRule.factor(request.getDiscountRate());
+        long startedAt = System.nanoTime();
+
+        int targets = (request.getBookIds() != null ? 1 : 0)
+                + (request.getCategoryId() != null ? 1 : 0)
+                + (request.getPublisherId() != null ? 1 : 0);
+        if (targets != 1) {
+            throw new IllegalArgumentException("bookIds, categoryId, publisherId 중 하나만 지정해야 합니다.");
+        }
+
+        // 1) 대상 id 를 먼저 고르고 2) IN 절 청크마다 따로 커밋합니다.
+        List<Long> bookIds;
+        if (request.getBookIds() != null) {
+            bookIds = request.getBookIds();
+        } else if (request.getCategoryId() != null) {
+            bookIds = findBookIdsInCategory(request.getCategoryId());
+        } else {
+            bookIds = bookRepository.findBookIdsByPublisher(request.getPublisherId());
+        }
+        long[] result = repriceByIds(factor, bookIds);
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("[PRICE] 판매가 일괄 변경: 할인율 {}%, {} 건 ({} 청크, {} ms)",
+                request.getDiscountRate(), result[0], result[1], elapsedMillis);
+
+        return RepriceResponse.builder()
+                .affectedRows(result[0])
+                .chunks((int) result[1])
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    // [변경된 행 수, 청크 수]
+    private long[] repriceByIds(double factor, List<Long> bookIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(bookIds));
+        ids.remove(null);
+        // 청크끼리 잠그는 행 순서를 맞춰서 다른 일괄 변경과 교착되지 않도록 정렬합니다.
+        ids.sort(null);
+
+        long affected = 0;
+        int chunks = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = List.copyOf(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+            affected += execute(factor, chunk);
+            chunks++;
+        }
+        return new long[]{affected, chunks};
+    }
+
+    // 하위 카테고리는 트리에서 id 구간으로 구합니다. (KDC 라면 구간 하나)
+    // 도서가 여러 하위 카테고리에 걸쳐 있으면 구간마다 나오므로 한 번만 남깁니다.
+    private List<Long> findBookIdsInCategory(Long categoryId) {
+        List<CategoryTree.IdRange> ranges = categoryTreeCache.getTree().getDescendantRanges(categoryId);
+
+        Set<Long> bookIds = new LinkedHashSet<>();
+        for (CategoryTree.IdRange range : ranges) {
+            bookIds.addAll(bookRepository.findBookIdsByCategoryRange(range.from(), range.to()));
+        }
+        return new ArrayList<>(bookIds);
+    }
+
+    // 청크 하나 = 트랜잭션 하나
+    // 판매가가 바뀐 청크는 같은 트랜잭션에서 카탈로그 세대를 올리고(오래된 스냅샷 거르기),
+    // 상세 캐시는 그 청크의 도서만 커밋 직후에 지웁니다. (전체가 끝나길 기다리지 않고 커밋된 청크부터 새 가격이 보이도록)
+    private int execute(double factor, List<Long> chunk) {
+        Integer updated = transactionTemplate.execute(status -> {
+            int rows = bookRepository.repriceByIds(factor, chunk);
+            if (rows > 0) {
+                catalogGenerationCounter.bump();
+                bookDetailCache.evictAll(chunk);
+            }
+            return rows;
+        });
+        return updated == null ? 0 : updated;
+    }
+}
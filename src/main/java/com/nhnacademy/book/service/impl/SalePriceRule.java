@@ -0,0 +1,21 @@
+package com.nhnacademy.book.service.impl;
+
+// 판매가 계산 규칙: 정가 * (1 - 할인율/100), 반올림
+// 단건 수정(BookServiceImpl)과 일괄 변경(PriceServiceImpl, SQL)이 같은 결과를 내도록 한 곳에 둡니다.
+final class SalePriceRule {
+
+    private SalePriceRule() {
+    }
+
+    // 정가에 곱할 값. SQL 에서는 floor(정가 * factor + 0.5) 로 Math.round 와 같게 계산합니다.
+    static double factor(double discountRate) {
+        if (discountRate < 0 || discountRate > 100) {
+            throw new IllegalArgumentException("할인율은 0 ~ 100 사이여야 합니다: " + discountRate);
+        }
+        return 1 - discountRate / 100.0;
+    }
+
+    static int salePrice(int regularPrice, double discountRate) {
+        return (int) Math.round(regularPrice * factor(discountRate));
+    }
+}
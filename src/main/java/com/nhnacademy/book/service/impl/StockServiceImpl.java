@@ -0,0 +1,86 @@
+package com.nhnacademy.book.service.impl;
+
+import com.nhnacademy.book.cache.BookDetailCache;
+import com.nhnacademy.book.dto.StockRequest;
+import com.nhnacademy.book.exception.InsufficientStockException;
+import com.nhnacademy.book.repository.BookRepository;
+import com.nhnacademy.book.service.StockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 재고 변경은 엔티티를 읽고 덮어쓰지 않고, 조건부 UPDATE 한 문장으로 처리합니다.
+// (읽고 -> 계산하고 -> 쓰는 사이에 다른 주문이 끼어들어 차감이 사라지는 문제 방지)
+@Service
+@RequiredArgsConstructor
+public class StockServiceImpl implements StockService {
+
+    private final BookRepository bookRepository;
+    private final BookDetailCache bookDetailCache;
+
+    // 1. 재고 차감
+    // - 잠금 없는 조회로 먼저 확인해서, 품절 상품에 몰린 요청은 행 잠금을 기다리지 않고 바로 실패합니다.
+    // - 차감은 bookId 순서로 해서 여러 도서를 동시에 주문해도 교착 상태가 생기지 않습니다.
+    // - 조건(book_stock >= 수량)이 맞지 않으면 예외로 트랜잭션 전체를 되돌립니다.
+    @Override
+    @Transactional
+    public void reserve(StockRequest request) {
+        Map<Long, Integer> quantities = merge(request);
+
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (Object[] row : bookRepository.findStocks(quantities.keySet())) {
+            stocks.put((Long) row[0], (Integer) row[1]);
+        }
+
+        quantities.forEach((bookId, quantity) -> {
+            Integer stock = stocks.get(bookId);
+            if (stock == null) {
+                throw new IllegalArgumentException("해당 도서가 존재하지 않습니다. ID: " + bookId);
+            }
+            if (stock < quantity) {
+                throw new InsufficientStockException(bookId, quantity);
+            }
+        });
+
+        quantities.forEach((bookId, quantity) -> {
+            if (bookRepository.decreaseStock(bookId, quantity) == 0) {
+                throw new InsufficientStockException(bookId, quantity);
+            }
+            bookDetailCache.evict(bookId);
+        });
+    }
+
+    // 2. 재고 복구
+    @Override
+    @Transactional
+    public void release(StockRequest request) {
+        merge(request).forEach((bookId, quantity) -> {
+            if (bookRepository.increaseStock(bookId, quantity) == 0) {
+                throw new IllegalArgumentException("해당 도서가 존재하지 않습니다. ID: " + bookId);
+            }
+            bookDetailCache.evict(bookId);
+        });
+    }
+
+    // 같은 도서가 여러 번 오면 수량을 합치고, bookId 순서로 정렬합니다.
+    private Map<Long, Integer> merge(StockRequest request) {
+        List<StockRequest.Item> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("재고를 변경할 도서가 없습니다.");
+        }
+
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockRequest.Item item : items) {
+            if (item.getBookId() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("도서 ID와 1 이상의 수량이 필요합니다.");
+            }
+            quantities.merge(item.getBookId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+}
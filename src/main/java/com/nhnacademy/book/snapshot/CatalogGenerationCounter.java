@@ -0,0 +1,50 @@
+package com.nhnacademy.book.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 카탈로그 변경 세대 (catalog_generation 행 하나)
+// 도서/카테고리/가격을 바꾸는 트랜잭션 안에서 bump() 를 부르면 같이 커밋되거나 같이 롤백됩니다.
+// 스냅샷은 읽은 시점의 세대를 헤더에 적고, CatalogWarmer 는 DB 세대와 같을 때만 스냅샷을 씁니다.
+// 재고는 스냅샷에 넣지 않으므로 주문 차감/복원은 세대를 올리지 않습니다.
+@Component
+@RequiredArgsConstructor
+public class CatalogGenerationCounter {
+
+    private static final String NAME = "catalog";
+
+    private static final String BUMP = "update catalog_generation set generation = generation + 1 where generation_name = ?";
+
+    private static final String INSERT = "insert into catalog_generation (generation_name, generation) values (?, 1)";
+
+    private static final String SELECT = "select generation from catalog_generation where generation_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 카탈로그를 바꾸는 트랜잭션 안에서만 부릅니다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump() {
+        if (jdbcTemplate.update(BUMP, NAME) == 1) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT, NAME);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 트랜잭션이 먼저 행을 만들었습니다.
+            jdbcTemplate.update(BUMP, NAME);
+        }
+    }
+
+    // 한 번도 바뀐 적 없으면 0
+    public long current() {
+        List<Long> generations = jdbcTemplate.queryForList(SELECT, Long.class, NAME);
+        return generations.isEmpty() ? 0 : generations.get(0);
+    }
+}
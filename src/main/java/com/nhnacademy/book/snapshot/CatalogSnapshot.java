@@ -0,0 +1,422 @@
+package com.nhnacademy.book.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+
+// 메모리 매핑한 카탈로그 스냅샷 (형식은 SnapshotFormat)
+// open() 에서 magic / 버전 / 길이 / CRC32 를 확인하므로, 열리면 파일 내용은 믿어도 됩니다.
+// 컬럼은 따로 매핑하고, 행은 커서로 앞에서부터 읽습니다. (문자열은 실제로 꺼낼 때만 디코딩)
+// 매핑 하나는 2GB 를 넘을 수 없으므로 컬럼을 창(window) 단위로 나눠 매핑합니다.
+public final class CatalogSnapshot implements Closeable {
+
+    // 컬럼 / CRC 계산 시 한 번에 매핑하는 크기
+    private static final int MAP_WINDOW = 256 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final int windowSize;
+    private final long createdAt;
+    private final long bookCount;
+    private final long maxBookId;
+    private final long categoryCount;
+    private final long generation;
+
+    private final Section books;
+    private final Section categories;
+    private final Section authors;
+    private final Section publishers;
+
+    // 섹션 안 컬럼의 파일 위치
+    private record Column(long offset, long length) {
+    }
+
+    private record Section(int rows, Column[] columns) {
+    }
+
+    private CatalogSnapshot(FileChannel channel, int windowSize, ByteBuffer header) throws IOException {
+        this.channel = channel;
+        this.windowSize = windowSize;
+        this.createdAt = header.getLong(8);
+        this.bookCount = header.getLong(16);
+        this.maxBookId = header.getLong(24);
+        this.categoryCount = header.getLong(32);
+        this.generation = header.getLong(56);
+
+        long position = SnapshotFormat.HEADER_SIZE;
+        long end = SnapshotFormat.HEADER_SIZE + header.getLong(40);
+        Section[] sections = new Section[4];
+        int[] expectedColumns = {SnapshotFormat.BOOK_COLUMNS, SnapshotFormat.CATEGORY_COLUMNS,
+                SnapshotFormat.NAME_COLUMNS, SnapshotFormat.NAME_COLUMNS};
+
+        for (int i = 0; i < sections.length; i++) {
+            ByteBuffer sectionHeader = read(position, 12);
+            int id = sectionHeader.getInt();
+            int rows = sectionHeader.getInt();
+            int columnCount = sectionHeader.getInt();
+            if (id != i + 1 || columnCount != expectedColumns[i] || rows < 0) {
+                throw new IOException("스냅샷 섹션이 올바르지 않습니다: id " + id + ", 컬럼 " + columnCount);
+            }
+            position += 12;
+
+            Column[] columns = new Column[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                long length = read(position, 8).getLong();
+                position += 8;
+                if (length < 0 || position + length > end) {
+                    throw new IOException("스냅샷 컬럼 길이가 올바르지 않습니다: " + length);
+                }
+                columns[c] = new Column(position, length);
+                position += length;
+            }
+            sections[i] = new Section(rows, columns);
+        }
+
+        this.books = sections[0];
+        this.categories = sections[1];
+        this.authors = sections[2];
+        this.publishers = sections[3];
+    }
+
+    // 파일을 열고 검증합니다. 잘못된 파일이면 IOException
+    public static CatalogSnapshot open(Path path) throws IOException {
+        return open(path, MAP_WINDOW);
+    }
+
+    // 창 크기를 바꿔서 엽니다. (테스트에서 작은 파일로 여러 창에 걸친 컬럼을 만들 때)
+    // 8 의 배수여야 고정 길이 값(int/long)이 창 경계에 걸치지 않습니다.
+    static CatalogSnapshot open(Path path, int windowSize) throws IOException {
+        if (windowSize <= 0 || windowSize % Long.BYTES != 0) {
+            throw new IllegalArgumentException("창 크기는 8 의 배수여야 합니다: " + windowSize);
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < SnapshotFormat.HEADER_SIZE) {
+                throw new IOException("스냅샷 파일이 너무 작습니다: " + size + " bytes");
+            }
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, SnapshotFormat.HEADER_SIZE);
+            if (header.getInt(0) != SnapshotFormat.MAGIC) {
+                throw new IOException("스냅샷 파일이 아닙니다. (magic 불일치)");
+            }
+            if (header.getShort(4) != SnapshotFormat.VERSION) {
+                throw new IOException("스냅샷 버전이 다릅니다: " + header.getShort(4) + " (지원: " + SnapshotFormat.VERSION + ")");
+            }
+
+            long bodyLength = header.getLong(40);
+            if (SnapshotFormat.HEADER_SIZE + bodyLength != size) {
+                throw new IOException("스냅샷 길이가 맞지 않습니다: 헤더 " + bodyLength + ", 파일 " + (size - SnapshotFormat.HEADER_SIZE));
+            }
+
+            CRC32 crc = new CRC32();
+            for (long offset = SnapshotFormat.HEADER_SIZE; offset < size; offset += windowSize) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, size - offset)));
+            }
+            if ((int) crc.getValue() != header.getInt(48)) {
+                throw new IOException("스냅샷 CRC32 가 맞지 않습니다. (파일 손상)");
+            }
+
+            return new CatalogSnapshot(channel, windowSize, header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getBookCount() {
+        return bookCount;
+    }
+
+    public long getMaxBookId() {
+        return maxBookId;
+    }
+
+    public long getCategoryCount() {
+        return categoryCount;
+    }
+
+    // 파일을 쓸 때 읽은 카탈로그 세대 (CatalogGenerationCounter)
+    public long getGeneration() {
+        return generation;
+    }
+
+    public BookCursor books() throws IOException {
+        return new BookCursor();
+    }
+
+    public CategoryCursor categories() throws IOException {
+        return new CategoryCursor();
+    }
+
+    public NameCursor authors() throws IOException {
+        return new NameCursor(authors);
+    }
+
+    public NameCursor publishers() throws IOException {
+        return new NameCursor(publishers);
+    }
+
+    // 매핑한 버퍼는 GC 때 풀립니다. 채널만 닫습니다.
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // 도서 행 커서: next() 로 한 행씩 이동합니다.
+    public final class BookCursor {
+        private final MappedColumn bookIds;
+        private final MappedColumn isbns;
+        private final MappedColumn publisherIds;
+        private final MappedColumn regularPrices;
+        private final MappedColumn salePrices;
+        private final MappedColumn publicationDates;
+        private final MappedColumn states;
+        private final StringColumn titles;
+        private final StringColumn descriptions;
+        private int row = -1;
+
+        private BookCursor() throws IOException {
+            bookIds = map(books.columns()[0]);
+            isbns = map(books.columns()[1]);
+            publisherIds = map(books.columns()[2]);
+            regularPrices = map(books.columns()[3]);
+            salePrices = map(books.columns()[4]);
+            publicationDates = map(books.columns()[5]);
+            states = map(books.columns()[6]);
+            titles = new StringColumn(map(books.columns()[7]));
+            descriptions = new StringColumn(map(books.columns()[8]));
+        }
+
+        public int size() {
+            return books.rows();
+        }
+
+        public boolean next() {
+            if (row + 1 >= books.rows()) {
+                return false;
+            }
+            row++;
+            titles.next();
+            descriptions.next();
+            return true;
+        }
+
+        public long bookId() {
+            return bookIds.getLong((long) row * Long.BYTES);
+        }
+
+        // ISBN-13 을 long 으로 바꾼 값 (잘못된 ISBN 이면 0)
+        public long isbn() {
+            return isbns.getLong((long) row * Long.BYTES);
+        }
+
+        // 출판사가 없으면 0
+        public long publisherId() {
+            return publisherIds.getLong((long) row * Long.BYTES);
+        }
+
+        public int regularPrice() {
+            return regularPrices.getInt((long) row * Integer.BYTES);
+        }
+
+        public int salePrice() {
+            return salePrices.getInt((long) row * Integer.BYTES);
+        }
+
+        // 없으면 null
+        public LocalDate publicationDate() {
+            int epochDay = publicationDates.getInt((long) row * Integer.BYTES);
+            return epochDay == SnapshotFormat.NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+        }
+
+        // BookState ordinal (없으면 -1)
+        public int state() {
+            return states.get(row);
+        }
+
+        public String title() {
+            return titles.value();
+        }
+
+        public String description() {
+            return descriptions.value();
+        }
+    }
+
+    // 카테고리 행 커서
+    public final class CategoryCursor {
+        private final MappedColumn ids;
+        private final MappedColumn parentIds;
+        private final StringColumn names;
+        private int row = -1;
+
+        private CategoryCursor() throws IOException {
+            ids = map(categories.columns()[0]);
+            parentIds = map(categories.columns()[1]);
+            names = new StringColumn(map(categories.columns()[2]));
+        }
+
+        public boolean next() {
+            if (row + 1 >= categories.rows()) {
+                return false;
+            }
+            row++;
+            names.next();
+            return true;
+        }
+
+        public long categoryId() {
+            return ids.getLong((long) row * Long.BYTES);
+        }
+
+        // 최상위면 null
+        public Long parentId() {
+            long parentId = parentIds.getLong((long) row * Long.BYTES);
+            return parentId == 0 ? null : parentId;
+        }
+
+        public String name() {
+            return names.value();
+        }
+    }
+
+    // 저자/출판사 사전 행 커서
+    public final class NameCursor {
+        private final int rows;
+        private final MappedColumn ids;
+        private final MappedColumn bookCounts;
+        private final StringColumn names;
+        private int row = -1;
+
+        private NameCursor(Section section) throws IOException {
+            rows = section.rows();
+            ids = map(section.columns()[0]);
+            bookCounts = map(section.columns()[1]);
+            names = new StringColumn(map(section.columns()[2]));
+        }
+
+        public boolean next() {
+            if (row + 1 >= rows) {
+                return false;
+            }
+            row++;
+            names.next();
+            return true;
+        }
+
+        public long id() {
+            return ids.getLong((long) row * Long.BYTES);
+        }
+
+        public int bookCount() {
+            return bookCounts.getInt((long) row * Integer.BYTES);
+        }
+
+        public String name() {
+            return names.value();
+        }
+    }
+
+    // 길이 접두 UTF-8 문자열 컬럼을 앞에서부터 읽습니다. 값은 value() 를 부를 때만 String 으로 만듭니다.
+    private static final class StringColumn {
+        private final MappedColumn column;
+        private long position;
+        private long start;
+        private int length;
+
+        StringColumn(MappedColumn column) {
+            this.column = column;
+        }
+
+        void next() {
+            length = column.getInt(position);
+            start = position + Integer.BYTES;
+            position = start + Math.max(length, 0);
+        }
+
+        String value() {
+            if (length == SnapshotFormat.NULL_STRING) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            column.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    // 창 단위로 나눠 매핑한 컬럼 하나
+    // 창 크기가 8 의 배수이므로 고정 길이 값은 한 창 안에 있고, 문자열(길이 + 바이트)만 경계에 걸칠 수 있습니다.
+    private static final class MappedColumn {
+        private final ByteBuffer[] windows;
+        private final int windowSize;
+
+        MappedColumn(ByteBuffer[] windows, int windowSize) {
+            this.windows = windows;
+            this.windowSize = windowSize;
+        }
+
+        long getLong(long position) {
+            return windows[(int) (position / windowSize)].getLong((int) (position % windowSize));
+        }
+
+        int getInt(long position) {
+            ByteBuffer window = windows[(int) (position / windowSize)];
+            int offset = (int) (position % windowSize);
+            if (offset + Integer.BYTES <= window.limit()) {
+                return window.getInt(offset);
+            }
+            byte[] bytes = new byte[Integer.BYTES];
+            get(position, bytes);
+            return ByteBuffer.wrap(bytes).getInt();
+        }
+
+        byte get(long position) {
+            return windows[(int) (position / windowSize)].get((int) (position % windowSize));
+        }
+
+        void get(long position, byte[] target) {
+            int copied = 0;
+            while (copied < target.length) {
+                ByteBuffer window = windows[(int) (position / windowSize)];
+                int offset = (int) (position % windowSize);
+                int count = Math.min(target.length - copied, window.limit() - offset);
+                window.get(offset, target, copied, count);
+                copied += count;
+                position += count;
+            }
+        }
+    }
+
+    // 컬럼 하나를 창 크기 단위로 나눠 매핑합니다.
+    private MappedColumn map(Column column) throws IOException {
+        int count = (int) ((column.length() + windowSize - 1) / windowSize);
+        ByteBuffer[] windows = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long offset = (long) i * windowSize;
+            windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, column.offset() + offset,
+                    Math.min(windowSize, column.length() - offset));
+        }
+        return new MappedColumn(windows, windowSize);
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("스냅샷이 예상보다 짧습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+}
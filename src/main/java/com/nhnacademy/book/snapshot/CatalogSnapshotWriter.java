@@ -0,0 +1,201 @@
+package com.nhnacademy.book.snapshot;
+
+import com.nhnacademy.book.entity.BookState;
+import com.nhnacademy.book.isbn.Isbn;
+import com.nhnacademy.book.job.CatalogImportedEvent;
+import com.nhnacademy.book.snapshot.SnapshotFileWriter.Section;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 적재가 끝나면 카탈로그(도서, 카테고리, 저자/출판사 사전)를 바이너리 스냅샷 파일로 씁니다.
+// 다음에 뜨는 노드는 DB 전체를 다시 읽는 대신 이 파일을 메모리 매핑해서 메모리 색인을 채웁니다. (CatalogWarmer)
+//
+// book.snapshot.path 가 비어 있으면 쓰지 않습니다.
+// 임시 파일에 끝까지 쓴 뒤 이름을 바꾸므로, 읽는 쪽이 반쯤 쓴 파일을 보는 일은 없습니다.
+@Slf4j
+@Component
+public class CatalogSnapshotWriter {
+
+    private static final String SELECT_BOOKS = "select book_id, isbn, publisher_id, book_regular_price, book_sale_price, "
+            + "book_publication_date, book_state, book_name, book_description from book order by book_id";
+
+    private static final String SELECT_CATEGORIES = "select category_id, parent_id, category_name from category order by category_id";
+
+    private static final String SELECT_AUTHORS = "select a.author_id, count(ba.book_id), a.author_name from author a "
+            + "left join book_author ba on ba.author_id = a.author_id group by a.author_id, a.author_name order by a.author_id";
+
+    private static final String SELECT_PUBLISHERS = "select p.publisher_id, count(b.book_id), p.publisher_name from publisher p "
+            + "left join book b on b.publisher_id = p.publisher_id group by p.publisher_id, p.publisher_name order by p.publisher_id";
+
+    private static final BookState[] STATES = BookState.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogGenerationCounter catalogGenerationCounter;
+    private final String path;
+    private final int fetchSize;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean writeQueued = new AtomicBoolean();
+
+    public CatalogSnapshotWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 CatalogGenerationCounter catalogGenerationCounter,
+                                 @Value("${book.snapshot.path:}") String path,
+                                 @Value("${book.search.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.catalogGenerationCounter = catalogGenerationCounter;
+        this.path = path;
+        this.fetchSize = fetchSize;
+
+        // 여러 테이블을 같은 시점으로 읽도록 읽기 전용 REPEATABLE READ 트랜잭션 하나에서 씁니다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    // 도서든 카테고리든 적재가 끝나면 다시 씁니다.
+    @EventListener
+    public void onImported(CatalogImportedEvent event) {
+        if (isEnabled()) {
+            writeAsync();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return !path.isBlank();
+    }
+
+    public void writeAsync() {
+        if (writeQueued.compareAndSet(false, true)) {
+            writer.execute(() -> {
+                writeQueued.set(false);
+                try {
+                    write();
+                } catch (IOException | RuntimeException e) {
+                    log.error("[SNAPSHOT] 카탈로그 스냅샷 쓰기 실패: {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    // 1. DB 를 행 단위로 읽어 컬럼별 임시 파일에 나눠 쓰고
+    // 2. 헤더 자리를 비워 둔 채 섹션들을 이어 붙이면서 CRC32 를 계산한 뒤
+    // 3. 헤더를 채우고 fsync -> 원래 이름으로 바꿉니다.
+    public synchronized void write() throws IOException {
+        long startedAt = System.nanoTime();
+        Path target = Path.of(path).toAbsolutePath();
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+
+        // [도서 수, 최대 book_id, 카탈로그 세대]
+        long[] bookStats = new long[3];
+        try (Section books = new Section(SnapshotFormat.SECTION_BOOKS, SnapshotFormat.BOOK_COLUMNS, directory);
+             Section categories = new Section(SnapshotFormat.SECTION_CATEGORIES, SnapshotFormat.CATEGORY_COLUMNS, directory);
+             Section authors = new Section(SnapshotFormat.SECTION_AUTHORS, SnapshotFormat.NAME_COLUMNS, directory);
+             Section publishers = new Section(SnapshotFormat.SECTION_PUBLISHERS, SnapshotFormat.NAME_COLUMNS, directory)) {
+
+            // 1. 같은 트랜잭션(같은 시점)에서 네 테이블을 읽습니다.
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    // 세대도 같은 시점에서 읽어야 이 파일이 어느 변경까지 담았는지 정확합니다.
+                    bookStats[2] = catalogGenerationCounter.current();
+
+                    query(SELECT_BOOKS, rs -> {
+                        long bookId = rs.getLong(1);
+                        Date publicationDate = rs.getDate(6);
+                        String state = rs.getString(7);
+
+                        books.column(0).writeLong(bookId);
+                        books.column(1).writeLong(Isbn.parseOrInvalid(rs.getString(2)));
+                        books.column(2).writeLong(rs.getLong(3));
+                        books.column(3).writeInt(rs.getInt(4));
+                        books.column(4).writeInt(rs.getInt(5));
+                        books.column(5).writeInt(publicationDate == null
+                                ? SnapshotFormat.NO_DATE : (int) publicationDate.toLocalDate().toEpochDay());
+                        books.column(6).writeByte(state == null ? -1 : BookState.valueOf(state).ordinal());
+                        books.column(7).writeString(rs.getString(8));
+                        books.column(8).writeString(rs.getString(9));
+
+                        books.rows++;
+                        bookStats[0]++;
+                        bookStats[1] = Math.max(bookStats[1], bookId);
+                    });
+
+                    query(SELECT_CATEGORIES, rs -> {
+                        categories.column(0).writeLong(rs.getLong(1));
+                        categories.column(1).writeLong(rs.getLong(2));
+                        categories.column(2).writeString(rs.getString(3));
+                        categories.rows++;
+                    });
+
+                    query(SELECT_AUTHORS, rs -> writeName(authors, rs.getLong(1), rs.getInt(2), rs.getString(3)));
+                    query(SELECT_PUBLISHERS, rs -> writeName(publishers, rs.getLong(1), rs.getInt(2), rs.getString(3)));
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            // 2 ~ 3. 임시 파일에 쓰고 원래 이름으로 바꿉니다.
+            SnapshotFileWriter.write(target, bookStats[2], bookStats[0], bookStats[1], books, categories, authors, publishers);
+
+            log.info("[SNAPSHOT] 카탈로그 스냅샷 저장: {} (세대 {}, 도서 {} 권, 카테고리 {} 개, 저자 {} 명, 출판사 {} 곳, {} KB, {} ms)",
+                    target, bookStats[2], books.rows, categories.rows, authors.rows, publishers.rows,
+                    Files.size(target) / 1024, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    private static void writeName(Section section, long id, int bookCount, String name) throws IOException {
+        section.column(0).writeLong(id);
+        section.column(1).writeInt(bookCount);
+        section.column(2).writeString(name);
+        section.rows++;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+    }
+
+    private void query(String sql, RowWriter rowWriter) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
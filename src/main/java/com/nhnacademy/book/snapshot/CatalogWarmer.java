@@ -0,0 +1,133 @@
+package com.nhnacademy.book.snapshot;
+
+import com.nhnacademy.book.category.CategoryTree;
+import com.nhnacademy.book.category.CategoryTreeCache;
+import com.nhnacademy.book.isbn.IsbnIndex;
+import com.nhnacademy.book.search.BookSearchIndex;
+import com.nhnacademy.book.search.BookSuggestIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// 부팅 시 메모리 색인(카테고리 트리, ISBN, 검색, 자동완성)을 채웁니다.
+// 1. 카탈로그 스냅샷 파일이 있고 DB 와 맞으면(카탈로그 세대 / 도서 수 / 최대 book_id / 카테고리 수) 파일에서 바로 만듭니다.
+//    세대는 제목/가격 수정이나 일괄 가격 변경에도 올라가므로, 도서 수가 같아도 내용이 바뀐 스냅샷은 쓰지 않습니다.
+// 2. 없거나, 손상됐거나, DB 와 다르면 지금까지처럼 DB 에서 만듭니다.
+// book.snapshot.refresh-after-load=true 면 스냅샷으로 먼저 띄운 뒤 검색/자동완성을 DB 로 한 번 더 만듭니다. (기본 false)
+@Slf4j
+@Component
+public class CatalogWarmer {
+
+    private static final String SELECT_BOOK_STATS = "select count(*), coalesce(max(book_id), 0) from book";
+    private static final String SELECT_CATEGORY_COUNT = "select count(*) from category";
+
+    private final CatalogGenerationCounter catalogGenerationCounter;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CategoryTreeCache categoryTreeCache;
+    private final IsbnIndex isbnIndex;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSuggestIndex bookSuggestIndex;
+    private final String path;
+    private final boolean refreshAfterLoad;
+
+    public CatalogWarmer(JdbcTemplate jdbcTemplate, CategoryTreeCache categoryTreeCache, IsbnIndex isbnIndex,
+                         BookSearchIndex bookSearchIndex, BookSuggestIndex bookSuggestIndex,
+                         CatalogGenerationCounter catalogGenerationCounter,
+                         @Value("${book.snapshot.path:}") String path,
+                         @Value("${book.snapshot.refresh-after-load:false}") boolean refreshAfterLoad) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.catalogGenerationCounter = catalogGenerationCounter;
+        this.categoryTreeCache = categoryTreeCache;
+        this.isbnIndex = isbnIndex;
+        this.bookSearchIndex = bookSearchIndex;
+        this.bookSuggestIndex = bookSuggestIndex;
+        this.path = path;
+        this.refreshAfterLoad = refreshAfterLoad;
+    }
+
+    // 부팅을 막지 않도록 별도 스레드에서 채웁니다. (그 사이 ISBN 조회는 DB 로, 카테고리 트리는 처음 쓸 때 만들어짐)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        Thread thread = new Thread(this::warm, "book-catalog-warmer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void warm() {
+        try {
+            if (warmFromSnapshot()) {
+                if (refreshAfterLoad) {
+                    bookSearchIndex.rebuildAsync();
+                    bookSuggestIndex.rebuildAsync();
+                }
+                return;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[SNAPSHOT] 카탈로그 스냅샷을 쓸 수 없어 DB 에서 만듭니다: {}", e.getMessage());
+        }
+
+        try {
+            categoryTreeCache.rebuild();
+            isbnIndex.rebuild();
+        } catch (RuntimeException e) {
+            log.error("[SNAPSHOT] 부팅 시 색인 생성 실패: {}", e.getMessage(), e);
+        }
+        bookSearchIndex.rebuildAsync();
+        bookSuggestIndex.rebuildAsync();
+    }
+
+    // 스냅샷으로 채웠으면 true
+    private boolean warmFromSnapshot() throws IOException {
+        if (path.isBlank()) {
+            return false;
+        }
+        Path file = Path.of(path);
+        if (!Files.exists(file)) {
+            log.info("[SNAPSHOT] 카탈로그 스냅샷이 없습니다: {}", file.toAbsolutePath());
+            return false;
+        }
+
+        long startedAt = System.nanoTime();
+        try (CatalogSnapshot snapshot = CatalogSnapshot.open(file)) {
+            // 1. DB 와 같은 카탈로그인지 확인 (적재 후 새로 쓰지 못한 오래된 파일 거르기)
+            long[] books = jdbcTemplate.queryForObject(SELECT_BOOK_STATS,
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+            Long categories = jdbcTemplate.queryForObject(SELECT_CATEGORY_COUNT, Long.class);
+            long generation = catalogGenerationCounter.current();
+
+            if (books == null || categories == null || snapshot.getGeneration() != generation
+                    || snapshot.getBookCount() != books[0]
+                    || snapshot.getMaxBookId() != books[1] || snapshot.getCategoryCount() != categories) {
+                log.info("[SNAPSHOT] 카탈로그 스냅샷이 DB 와 다릅니다. (스냅샷 세대 {} / 도서 {} 권 / 최대 id {} / 카테고리 {} 개, DB {} / {} / {} / {})",
+                        snapshot.getGeneration(), snapshot.getBookCount(), snapshot.getMaxBookId(), snapshot.getCategoryCount(),
+                        generation, books == null ? null : books[0], books == null ? null : books[1], categories);
+                return false;
+            }
+
+            // 2. 파일에서 바로 색인을 만듭니다.
+            List<CategoryTree.Entry> entries = new ArrayList<>();
+            CatalogSnapshot.CategoryCursor cursor = snapshot.categories();
+            while (cursor.next()) {
+                entries.add(new CategoryTree.Entry(cursor.categoryId(), cursor.name(), cursor.parentId()));
+            }
+            categoryTreeCache.load(entries);
+            isbnIndex.load(snapshot);
+            bookSuggestIndex.load(snapshot);
+            bookSearchIndex.load(snapshot);
+        }
+
+        log.info("[SNAPSHOT] 카탈로그 스냅샷으로 색인 준비 완료: {} ({} ms)",
+                file.toAbsolutePath(), (System.nanoTime() - startedAt) / 1_000_000);
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package com.nhnacademy.book.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 스냅샷을 쓸 때 컬럼 하나를 임시 파일에 모아 두는 버퍼
+// DB 는 행 단위로 읽지만 파일은 컬럼 단위로 써야 하므로, 컬럼마다 따로 쌓았다가 마지막에 이어 붙입니다. (메모리 일정)
+final class ColumnSpool implements Closeable {
+
+    private final Path file;
+    private final DataOutputStream out;
+
+    ColumnSpool(Path directory) throws IOException {
+        this.file = Files.createTempFile(directory, "column-", ".spool");
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024));
+    }
+
+    void writeLong(long value) throws IOException {
+        out.writeLong(value);
+    }
+
+    void writeInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    void writeByte(int value) throws IOException {
+        out.writeByte(value);
+    }
+
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(SnapshotFormat.NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // 길이(long) + 내용을 target 에 씁니다.
+    void copyTo(DataOutputStream target) throws IOException {
+        out.flush();
+        target.writeLong(Files.size(file));
+        Files.copy(file, (OutputStream) target);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.close();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.nhnacademy.book.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+// 컬럼 임시 파일로 모은 섹션들을 스냅샷 파일 형식(SnapshotFormat)으로 씁니다.
+// DB 에서 읽는 부분은 CatalogSnapshotWriter 가 맡고, 여기서는 파일 형식만 다룹니다.
+final class SnapshotFileWriter {
+
+    private SnapshotFileWriter() {
+    }
+
+    // 섹션 하나 = 컬럼 임시 파일 여러 개
+    static final class Section implements Closeable {
+        private final int id;
+        private final List<ColumnSpool> columns = new ArrayList<>();
+        int rows;
+
+        Section(int id, int columnCount, Path directory) throws IOException {
+            this.id = id;
+            try {
+                for (int i = 0; i < columnCount; i++) {
+                    columns.add(new ColumnSpool(directory));
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        ColumnSpool column(int index) {
+            return columns.get(index);
+        }
+
+        void writeTo(DataOutputStream body) throws IOException {
+            body.writeInt(id);
+            body.writeInt(rows);
+            body.writeInt(columns.size());
+            for (ColumnSpool column : columns) {
+                column.copyTo(body);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException failure = null;
+            for (ColumnSpool column : columns) {
+                try {
+                    column.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    // 섹션들을 스냅샷 파일 하나로 씁니다. (BOOKS, CATEGORIES, AUTHORS, PUBLISHERS 순서)
+    static void write(Path target, long generation, long bookCount, long maxBookId,
+                      Section books, Section categories, Section authors, Section publishers) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            // 2. 헤더 뒤에 본문을 쓰면서 CRC32 계산
+            CRC32 crc = new CRC32();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                channel.position(SnapshotFormat.HEADER_SIZE);
+                DataOutputStream body = new DataOutputStream(new BufferedOutputStream(
+                        new CheckedOutputStream(Channels.newOutputStream(channel), crc), 64 * 1024));
+                books.writeTo(body);
+                categories.writeTo(body);
+                authors.writeTo(body);
+                publishers.writeTo(body);
+                body.flush();
+
+                long bodyLength = channel.position() - SnapshotFormat.HEADER_SIZE;
+
+                // 3. 헤더
+                ByteBuffer header = ByteBuffer.allocate(SnapshotFormat.HEADER_SIZE);
+                header.putInt(SnapshotFormat.MAGIC);
+                header.putShort(SnapshotFormat.VERSION);
+                header.putShort((short) 0);
+                header.putLong(System.currentTimeMillis());
+                header.putLong(bookCount);
+                header.putLong(maxBookId);
+                header.putLong(categories.rows);
+                header.putLong(bodyLength);
+                header.putInt((int) crc.getValue());
+                header.putInt(0);
+                header.putLong(generation);
+                header.clear();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
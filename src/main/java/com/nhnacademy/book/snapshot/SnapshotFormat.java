@@ -0,0 +1,50 @@
+package com.nhnacademy.book.snapshot;
+
+// 카탈로그 스냅샷 파일 형식 (big-endian)
+//
+// [헤더 64 바이트]
+//   int   magic ("BKSN")
+//   short version
+//   short 예약 (0)
+//   long  만든 시각 (epoch millis)
+//   long  도서 수
+//   long  최대 book_id
+//   long  카테고리 수
+//   long  본문 길이 (헤더 뒤 바이트 수)
+//   int   본문 CRC32
+//   int   예약 (0)
+//   long  카탈로그 세대 (catalog_generation, 읽은 시점 값)
+//   나머지 0
+//
+// [본문] 섹션이 BOOKS, CATEGORIES, AUTHORS, PUBLISHERS 순서로 이어집니다.
+//   섹션: int 섹션 id, int 행 수, int 컬럼 수, 컬럼 * (long 바이트 길이 + 데이터)
+//   컬럼 하나에 한 필드의 값이 행 순서대로 모여 있습니다. (컬럼 지향)
+//   문자열 컬럼: 값마다 int 길이(null 이면 -1) + UTF-8 바이트
+//
+// 컬럼을 추가/변경하면 VERSION 을 올립니다. (버전이 다른 파일은 읽지 않고 DB 에서 만듦)
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x424B534E;
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 64;
+
+    static final int SECTION_BOOKS = 1;
+    static final int SECTION_CATEGORIES = 2;
+    static final int SECTION_AUTHORS = 3;
+    static final int SECTION_PUBLISHERS = 4;
+
+    // BOOKS 컬럼: book_id, isbn(long, 잘못된 값 0), publisher_id(없으면 0), 정가, 판매가,
+    //            출간일(epoch day, 없으면 NO_DATE), 상태(ordinal, 없으면 -1), 제목, 소개글
+    // 재고는 주문마다 바뀌어 세대로 따라갈 수 없으므로 넣지 않습니다. (항상 DB 에서 읽음)
+    static final int BOOK_COLUMNS = 9;
+    // CATEGORIES 컬럼: category_id, parent_id(없으면 0), 이름
+    static final int CATEGORY_COLUMNS = 3;
+    // AUTHORS / PUBLISHERS 컬럼: id, 도서 수, 이름
+    static final int NAME_COLUMNS = 3;
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+    static final int NULL_STRING = -1;
+
+    private SnapshotFormat() {
+    }
+}
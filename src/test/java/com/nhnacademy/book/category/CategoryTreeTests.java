@@ -0,0 +1,89 @@
+package com.nhnacademy.book.category;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CategoryTreeTests {
+
+    private static CategoryTree.Entry entry(long id, Long parentId) {
+        return new CategoryTree.Entry(id, "분류 " + KdcCode.format(id), parentId);
+    }
+
+    // 800 문학 > 810 한국문학 > 811, 813 / 820 중국문학 / 900 역사
+    private static CategoryTree kdcTree() {
+        return CategoryTree.of(List.of(
+                entry(813, 810L), entry(800, null), entry(811, 810L), entry(900, null),
+                entry(810, 800L), entry(820, 800L)));
+    }
+
+    @Test
+    void kdcDescendantsAreOneRange() {
+        CategoryTree tree = kdcTree();
+
+        assertThat(tree.getDescendantRanges(800)).containsExactly(new CategoryTree.IdRange(800, 820));
+        assertThat(tree.getDescendantRanges(810)).containsExactly(new CategoryTree.IdRange(810, 813));
+        assertThat(tree.getDescendantRanges(813)).containsExactly(new CategoryTree.IdRange(813, 813));
+        assertThat(tree.getDescendantIds(810)).containsExactly(810L, 811L, 813L);
+    }
+
+    @Test
+    void nonContiguousDescendantsSplitIntoRanges() {
+        // 2 가 1 과 3 사이에 끼어 있으므로 1 의 하위는 구간 두 개
+        CategoryTree tree = CategoryTree.of(List.of(
+                new CategoryTree.Entry(1000, "가", null),
+                new CategoryTree.Entry(1001, "나", null),
+                new CategoryTree.Entry(1002, "가-1", 1000L)));
+
+        assertThat(tree.getDescendantRanges(1000)).containsExactly(
+                new CategoryTree.IdRange(1000, 1000), new CategoryTree.IdRange(1002, 1002));
+        assertThat(tree.getDescendantIds(1000)).containsExactly(1000L, 1002L);
+    }
+
+    @Test
+    void keepsHierarchy() {
+        CategoryTree tree = kdcTree();
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(tree.getRootIds()).containsExactly(800L, 900L);
+        assertThat(tree.getChildIds(810)).containsExactly(811L, 813L);
+        assertThat(tree.getParentId(813)).isEqualTo(810L);
+        assertThat(tree.getParentId(800)).isNull();
+        assertThat(tree.getPath(813)).containsExactly(800L, 810L, 813L);
+        assertThat(tree.getName(810)).isEqualTo("분류 810");
+    }
+
+    @Test
+    void checksAncestry() {
+        CategoryTree tree = kdcTree();
+
+        assertThat(tree.isDescendantOf(813, 800)).isTrue();
+        assertThat(tree.isDescendantOf(813, 813)).isTrue();
+        assertThat(tree.isDescendantOf(820, 810)).isFalse();
+        assertThat(tree.isDescendantOf(800, 813)).isFalse();
+    }
+
+    @Test
+    void resolvesMissingOrSelfParentByKdcRule() {
+        // 010 이 자기 자신을 부모로 저장됨, 611 은 부모 없음(610 이 없어 600 으로 올라감)
+        CategoryTree tree = CategoryTree.of(List.of(
+                entry(0, null), entry(10, 10L), entry(600, null), entry(611, null)));
+
+        assertThat(tree.getParentId(10)).isEqualTo(0L);
+        assertThat(tree.getParentId(611)).isEqualTo(600L);
+        assertThat(tree.getRootIds()).containsExactly(0L, 600L);
+        assertThat(tree.getDescendantRanges(0)).containsExactly(new CategoryTree.IdRange(0, 10));
+    }
+
+    @Test
+    void rejectsUnknownCategory() {
+        CategoryTree tree = kdcTree();
+
+        assertThat(tree.contains(999)).isFalse();
+        assertThatThrownBy(() -> tree.getDescendantRanges(999)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(CategoryTree.empty().size()).isZero();
+    }
+}
@@ -0,0 +1,45 @@
+package com.nhnacademy.book.category;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KdcCodeTests {
+
+    @Test
+    void parentFollowsClassDivisionSection() {
+        assertThat(KdcCode.parentOf(813)).isEqualTo(810L);
+        assertThat(KdcCode.parentOf(810)).isEqualTo(800L);
+        assertThat(KdcCode.parentOf(800)).isEqualTo(KdcCode.NONE);
+    }
+
+    @Test
+    void parentOfLeadingZeroCodes() {
+        // "000", "010", "011" 은 숫자로 0, 10, 11
+        assertThat(KdcCode.parentOf(0)).isEqualTo(KdcCode.NONE);
+        assertThat(KdcCode.parentOf(10)).isEqualTo(0L);
+        assertThat(KdcCode.parentOf(11)).isEqualTo(10L);
+        assertThat(KdcCode.parentOf(5)).isEqualTo(0L);
+    }
+
+    @Test
+    void parsesFirstThreeDigits() {
+        assertThat(KdcCode.parse("813.6")).isEqualTo(813L);
+        assertThat(KdcCode.parse("813")).isEqualTo(813L);
+        assertThat(KdcCode.parse("010")).isEqualTo(10L);
+        assertThat(KdcCode.parse("8136")).isEqualTo(KdcCode.NONE);
+        assertThat(KdcCode.parse("81")).isEqualTo(KdcCode.NONE);
+        assertThat(KdcCode.parse("8a3")).isEqualTo(KdcCode.NONE);
+        assertThat(KdcCode.parse("")).isEqualTo(KdcCode.NONE);
+    }
+
+    @Test
+    void validatesAndFormats() {
+        assertThat(KdcCode.isValid(0)).isTrue();
+        assertThat(KdcCode.isValid(999)).isTrue();
+        assertThat(KdcCode.isValid(1000)).isFalse();
+        assertThat(KdcCode.isValid(-1)).isFalse();
+        assertThat(KdcCode.format(10)).isEqualTo("010");
+        assertThat(KdcCode.format(813)).isEqualTo("813");
+    }
+}
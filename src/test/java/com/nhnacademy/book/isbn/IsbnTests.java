@@ -0,0 +1,54 @@
+package com.nhnacademy.book.isbn;
+
+import com.nhnacademy.book.exception.InvalidIsbnException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IsbnTests {
+
+    @Test
+    void parsesIsbn13IgnoringHyphensAndSpaces() {
+        assertThat(Isbn.parse("9788966260959")).isEqualTo(9788966260959L);
+        assertThat(Isbn.parse("978-89-6626-095-9")).isEqualTo(9788966260959L);
+        assertThat(Isbn.parse(" 979 11 2345 678 2 ")).isEqualTo(9791123456782L);
+    }
+
+    @Test
+    void convertsIsbn10ToIsbn13() {
+        assertThat(Isbn.parse("0-306-40615-2")).isEqualTo(9780306406157L);
+        // 체크 숫자 X (= 10)
+        assertThat(Isbn.parse("080442957X")).isEqualTo(9780804429573L);
+        assertThat(Isbn.parse("080442957x")).isEqualTo(9780804429573L);
+    }
+
+    @Test
+    void rejectsBadChecksum() {
+        assertThat(Isbn.parseOrInvalid("9788966260958")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.parseOrInvalid("0306406153")).isEqualTo(Isbn.INVALID);
+        // X 는 ISBN-10 의 마지막 자리에만 올 수 있습니다.
+        assertThat(Isbn.parseOrInvalid("X306406152")).isEqualTo(Isbn.INVALID);
+    }
+
+    @Test
+    void rejectsBadFormat() {
+        // 체크섬은 맞지만 978/979 로 시작하지 않음
+        assertThat(Isbn.parseOrInvalid("9771234567003")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.parseOrInvalid("97889662609590")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.parseOrInvalid("97889662609")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.parseOrInvalid("978896626095a")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.parseOrInvalid("")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.parseOrInvalid(null)).isEqualTo(Isbn.INVALID);
+    }
+
+    @Test
+    void parseThrowsOnInvalid() {
+        assertThatThrownBy(() -> Isbn.parse("123")).isInstanceOf(InvalidIsbnException.class);
+    }
+
+    @Test
+    void formatsAsDigits() {
+        assertThat(Isbn.format(9788966260959L)).isEqualTo("9788966260959");
+    }
+}
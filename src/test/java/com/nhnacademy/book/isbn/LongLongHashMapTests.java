@@ -0,0 +1,59 @@
+package com.nhnacademy.book.isbn;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongLongHashMapTests {
+
+    @Test
+    void putsGetsAndOverwrites() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        map.put(9788966260959L, 1);
+        map.put(9780306406157L, 2);
+        map.put(9788966260959L, 3);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(9788966260959L)).isEqualTo(3L);
+        assertThat(map.get(9780306406157L)).isEqualTo(2L);
+        assertThat(map.get(9791123456782L)).isEqualTo(LongLongHashMap.MISSING);
+    }
+
+    @Test
+    void keepsEntriesAcrossResize() {
+        LongLongHashMap map = new LongLongHashMap(1);
+        long before = map.capacityBytes();
+
+        // 앞자리가 같은 ISBN 처럼 연속된 키
+        for (long i = 1; i <= 10_000; i++) {
+            map.put(9780000000000L + i, i);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.capacityBytes()).isGreaterThan(before);
+        for (long i = 1; i <= 10_000; i++) {
+            assertThat(map.get(9780000000000L + i)).isEqualTo(i);
+        }
+        assertThat(map.get(9780000000000L)).isEqualTo(LongLongHashMap.MISSING);
+    }
+
+    @Test
+    void rejectsZeroKey() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        assertThatThrownBy(() -> map.put(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        // 0 은 빈 칸 표시와 같지만 빈 칸의 값이 아니라 MISSING 이어야 합니다.
+        assertThat(map.get(0)).isEqualTo(LongLongHashMap.MISSING);
+        map.put(1, 7);
+        assertThat(map.get(0)).isEqualTo(LongLongHashMap.MISSING);
+    }
+
+    @Test
+    void storesNegativeKeys() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        map.put(-5, 50);
+
+        assertThat(map.get(-5)).isEqualTo(50L);
+    }
+}
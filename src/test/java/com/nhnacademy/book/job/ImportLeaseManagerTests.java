@@ -0,0 +1,127 @@
+package com.nhnacademy.book.job;
+
+import com.nhnacademy.book.parser.ImportCancelledException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// import_lease 행으로 노드 간 적재를 직렬화하는지 (H2)
+// 노드 두 개는 owner 가 다른 ImportLeaseManager 두 개로 흉내 냅니다.
+@DataJpaTest
+class ImportLeaseManagerTests {
+
+    private static final String LEASE = "book-import";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<ImportLeaseManager> managers = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        managers.forEach(ImportLeaseManager::shutdown);
+    }
+
+    private ImportLeaseManager newManager() {
+        ImportLeaseManager manager = new ImportLeaseManager(jdbcTemplate);
+        ReflectionTestUtils.setField(manager, "ttlSeconds", 60);
+        ReflectionTestUtils.setField(manager, "pollSeconds", 0);
+        managers.add(manager);
+        return manager;
+    }
+
+    // 한 번만 시도하고 포기합니다.
+    private static ImportLeaseManager.Lease tryOnce(ImportLeaseManager manager, Runnable onLost) throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        return manager.acquire(LEASE, () -> attempts.getAndIncrement() > 0, onLost);
+    }
+
+    private String leaseOwner() {
+        return jdbcTemplate.queryForObject("select owner from import_lease where lease_name = ?", String.class, LEASE);
+    }
+
+    private void expire() {
+        jdbcTemplate.update("update import_lease set expires_at = timestampadd(SECOND, -1, localtimestamp) where lease_name = ?", LEASE);
+    }
+
+    @Test
+    void acquireWhenFree() throws InterruptedException {
+        ImportLeaseManager node = newManager();
+
+        ImportLeaseManager.Lease lease = tryOnce(node, () -> {
+        });
+
+        assertThat(lease).isNotNull();
+        assertThat(lease.isLost()).isFalse();
+        assertThat(leaseOwner()).isEqualTo(node.getOwner());
+
+        // 반납하면 행이 지워집니다.
+        lease.close();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from import_lease", Integer.class)).isZero();
+    }
+
+    @Test
+    void secondOwnerIsRefusedWhileLeaseIsValid() throws InterruptedException {
+        ImportLeaseManager first = newManager();
+        ImportLeaseManager second = newManager();
+
+        assertThat(tryOnce(first, () -> {
+        })).isNotNull();
+
+        assertThat(tryOnce(second, () -> {
+        })).isNull();
+        assertThat(leaseOwner()).isEqualTo(first.getOwner());
+    }
+
+    @Test
+    void takeOverAfterExpiry() throws InterruptedException {
+        ImportLeaseManager first = newManager();
+        ImportLeaseManager second = newManager();
+
+        assertThat(tryOnce(first, () -> {
+        })).isNotNull();
+        expire();
+
+        assertThat(tryOnce(second, () -> {
+        })).isNotNull();
+        assertThat(leaseOwner()).isEqualTo(second.getOwner());
+    }
+
+    @Test
+    void fenceFailsOnceAnotherOwnerHoldsTheRow() throws InterruptedException {
+        ImportLeaseManager first = newManager();
+        ImportLeaseManager second = newManager();
+        AtomicInteger lostCalls = new AtomicInteger();
+
+        ImportLeaseManager.Lease lease = tryOnce(first, lostCalls::incrementAndGet);
+        assertThat(lease).isNotNull();
+
+        // 1. 아직 내 임대면 그대로 통과합니다.
+        lease.fence();
+        assertThat(lease.isLost()).isFalse();
+
+        // 2. 만료된 사이 다른 노드가 가져가면 쓰기 전에 막습니다.
+        expire();
+        assertThat(tryOnce(second, () -> {
+        })).isNotNull();
+
+        assertThatThrownBy(lease::fence).isInstanceOf(ImportCancelledException.class);
+        assertThat(lease.isLost()).isTrue();
+        assertThat(lostCalls.get()).isEqualTo(1);
+
+        // 3. 한 번 잃은 임대는 DB 에 묻지 않고 계속 막습니다. 다른 노드의 행은 건드리지 않습니다.
+        assertThatThrownBy(lease::fence).isInstanceOf(ImportCancelledException.class);
+        lease.close();
+        assertThat(leaseOwner()).isEqualTo(second.getOwner());
+    }
+}
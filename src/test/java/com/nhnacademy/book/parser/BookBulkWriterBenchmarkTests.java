@@ -0,0 +1,117 @@
+package com.nhnacademy.book.parser;
+
+import com.nhnacademy.book.entity.Book;
+import com.nhnacademy.book.entity.BookState;
+import com.nhnacademy.book.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 도서 저장 rows/s: bookRepository.saveAll (IDENTITY 라 행마다 INSERT) vs BookBulkWriter (JDBC 배치)
+// 기본 빌드에서는 돌지 않습니다. 실행:
+//   ./mvnw test -Dtest=BookBulkWriterBenchmarkTests -Dbenchmark=true
+//   H2 MySQL 모드: -Dspring.datasource.url="jdbc:h2:mem:bench;MODE=MySQL"
+//   MySQL: -Dspring.datasource.url="jdbc:mysql://.../book?rewriteBatchedStatements=true" (+ username/password)
+// 두 방식 모두 같은 트랜잭션 안에서 청크마다 DB 에 보내고(saveAll 은 flush), 커밋 비용은 재지 않습니다.
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BookBulkWriter.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookBulkWriterBenchmarkTests {
+
+    private static final int ROWS = 20_000;
+    private static final int CHUNK_SIZE = 1000;
+    private static final int WARM_UP_ROWS = 2000;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookBulkWriter bookBulkWriter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int nextIsbn;
+
+    @Test
+    void batchWriterAgainstSaveAll() {
+        // 1. 워밍업 (JIT, 커넥션, 문장 캐시)
+        saveAll(WARM_UP_ROWS);
+        bulkWrite(WARM_UP_ROWS);
+
+        // 2. 측정
+        long saveAllNanos = saveAll(ROWS);
+        long bulkNanos = bulkWrite(ROWS);
+
+        Integer books = jdbcTemplate.queryForObject("select count(*) from book", Integer.class);
+        assertThat(books).isEqualTo(2 * (WARM_UP_ROWS + ROWS));
+
+        String url = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL());
+        log.info("[BENCH] {}: saveAll {} rows/s, BookBulkWriter {} rows/s ({} 행, 청크 {})",
+                url, rowsPerSecond(saveAllNanos), rowsPerSecond(bulkNanos), ROWS, CHUNK_SIZE);
+    }
+
+    private long saveAll(int rows) {
+        long startedAt = System.nanoTime();
+        for (int from = 0; from < rows; from += CHUNK_SIZE) {
+            List<Book> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(rows, from + CHUNK_SIZE); i++) {
+                chunk.add(book());
+            }
+            bookRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private long bulkWrite(int rows) {
+        NameDictionary publishers = new NameDictionary();
+        long startedAt = System.nanoTime();
+        for (int from = 0; from < rows; from += CHUNK_SIZE) {
+            List<BookRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(rows, from + CHUNK_SIZE); i++) {
+                chunk.add(new BookRecord(book(), List.of(), null, null));
+            }
+            bookBulkWriter.writeBooks(chunk, publishers);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private Book book() {
+        int n = nextIsbn++;
+        Book book = new Book();
+        book.setIsbn(Long.toString(9780000000000L + n));
+        book.setBookName("벤치마크 도서 " + n);
+        book.setBookDescription("소개글 " + n);
+        book.setBookPublicationDate(LocalDate.of(2020, 1, 1));
+        book.setBookState(BookState.ON_SALE);
+        book.setBookRegularPrice(16000);
+        book.setBookSalePrice(16000);
+        book.setBookImage("https://image.example/" + n + ".jpg");
+        book.setImportHash((long) n);
+        return book;
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return ROWS * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.nhnacademy.book.parser;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 도서 CSV 읽기: 이전 경로(OpenCSV readNext + 18 컬럼 trim) vs BookCsvReader
+// 행당 할당 바이트(현재 스레드 기준)와 rows/s 를 잽니다. 기본 빌드에서는 돌지 않습니다. 실행:
+//   ./mvnw test -Dtest=BookCsvReaderBenchmarkTests -Dbenchmark=true
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookCsvReaderBenchmarkTests {
+
+    private static final int ROWS = 200_000;
+    private static final int ROUNDS = 5;
+
+    private record Result(long bytesPerRow, long rowsPerSecond, long checksum) {
+    }
+
+    @FunctionalInterface
+    private interface Reading {
+        long readAll(String csv) throws IOException, CsvValidationException;
+    }
+
+    // 실제 컬럼 배치를 따른 합성 파일 (소개글은 따옴표 안에 쉼표/따옴표가 들어감)
+    private static String csv() {
+        StringBuilder csv = new StringBuilder(ROWS * 400);
+        csv.append("SEQ_NO,ISBN_THIRTEEN_NO,VLM_NM,TITLE_NM,AUTHR_NM,PUBLISHER_NM,PBLICTE_DE,ADTION_SMBL_NM,PRC_VALUE,")
+                .append("IMAGE_URL,BOOK_INTRCN_CN,KDC_NM,TITLE_SBST_NM,AUTHR_SBST_NM,TWO_PBLICTE_DE,")
+                .append("INTNT_BOOKST_BOOK_EXST_AT,PORTAL_SITE_BOOK_EXST_AT,ISBN_NO\n");
+        for (int i = 0; i < ROWS; i++) {
+            long isbn = 9788900000000L + i;
+            csv.append(i).append(',')
+                    .append(isbn).append(",1,")
+                    .append("자바 프로그래밍 ").append(i).append(',')
+                    .append("\"홍길동 (지은이), 김철수 (옮긴이)\",")
+                    .append("한빛미디어 ,2020-01-01,개정판,")
+                    .append(16000 + i % 1000).append(".00,")
+                    .append("https://image.example/").append(isbn).append(".jpg,")
+                    .append("\"이 책은 \"\"자바\"\"의 기초부터, 실무 예제까지 다룹니다. ").append(i).append("\",")
+                    .append("005.133,자바 프로그래밍 부제,홍길동,20200101,Y,Y,")
+                    .append(isbn % 10_000_000_000L).append('\n');
+        }
+        return csv.toString();
+    }
+
+    @Test
+    void allocationAndThroughputAgainstOpenCsv() throws Exception {
+        String csv = csv();
+
+        Result openCsv = measure(csv, BookCsvReaderBenchmarkTests::readWithOpenCsv);
+        Result reader = measure(csv, BookCsvReaderBenchmarkTests::readWithBookCsvReader);
+
+        // 두 경로가 쓰는 컬럼을 같게 읽었는지
+        assertThat(reader.checksum()).isEqualTo(openCsv.checksum());
+
+        log.info("[BENCH] OpenCSV: {} B/row, {} rows/s", openCsv.bytesPerRow(), openCsv.rowsPerSecond());
+        log.info("[BENCH] BookCsvReader: {} B/row, {} rows/s", reader.bytesPerRow(), reader.rowsPerSecond());
+    }
+
+    // 첫 라운드는 워밍업으로 버리고, 나머지 중 가장 빠른 라운드를 씁니다.
+    private static Result measure(String csv, Reading reading) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        Result best = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long startedAt = System.nanoTime();
+            long checksum = reading.readAll(csv);
+            long nanos = System.nanoTime() - startedAt;
+            long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+            Result result = new Result(allocated / ROWS, ROWS * 1_000_000_000L / Math.max(nanos, 1), checksum);
+            if (round > 0 && (best == null || result.rowsPerSecond() > best.rowsPerSecond())) {
+                best = result;
+            }
+        }
+        return best;
+    }
+
+    // 이전 BookParser / BookRowMapper 경로: 모든 컬럼을 String 으로 만들고 다시 trim
+    private static long readWithOpenCsv(String csv) throws IOException, CsvValidationException {
+        long checksum = 0;
+        try (CSVReader reader = new CSVReaderBuilder(new StringReader(csv)).withSkipLines(1).build()) {
+            String[] line;
+            while ((line = reader.readNext()) != null) {
+                String[] trimmed = new String[line.length];
+                for (int i = 0; i < line.length; i++) {
+                    trimmed[i] = line[i].trim();
+                }
+                checksum += checksum(trimmed);
+            }
+        }
+        return checksum;
+    }
+
+    private static long readWithBookCsvReader(String csv) throws IOException {
+        long checksum = 0;
+        try (BookCsvReader reader = new BookCsvReader(new StringReader(csv)).skip(1)) {
+            String[] line;
+            while ((line = reader.next()) != null) {
+                checksum += checksum(line);
+            }
+        }
+        return checksum;
+    }
+
+    private static long checksum(String[] line) {
+        long checksum = 0;
+        for (int column : BookRowMapper.USED_COLUMNS) {
+            checksum = checksum * 31 + line[column].hashCode();
+        }
+        return checksum;
+    }
+}
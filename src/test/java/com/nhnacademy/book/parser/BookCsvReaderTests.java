@@ -0,0 +1,131 @@
+package com.nhnacademy.book.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookCsvReaderTests {
+
+    // 18 컬럼 중 ISBN / 제목 / 저자만 채운 줄
+    private static String row(String isbn, String title, String author) {
+        return "1," + isbn + ",," + title + "," + author + ",출판사,,,16000,,,,,,20200101,,,\n";
+    }
+
+    private static BookCsvReader reader(String csv) {
+        return new BookCsvReader(new StringReader(csv));
+    }
+
+    @Test
+    void readsUsedColumnsOnly() throws IOException {
+        String[] line = reader(row("9788900000001", "자바의 정석", "남궁성")).next();
+
+        assertThat(line).hasSize(BookRowMapper.COLUMN_COUNT);
+        assertThat(line[BookRowMapper.ISBN_THIRTEEN_NO]).isEqualTo("9788900000001");
+        assertThat(line[BookRowMapper.TITLE_NM]).isEqualTo("자바의 정석");
+        assertThat(line[BookRowMapper.AUTHR_NM]).isEqualTo("남궁성");
+        assertThat(line[BookRowMapper.PRC_VALUE]).isEqualTo("16000");
+        assertThat(line[BookRowMapper.TWO_PBLICTE_DE]).isEqualTo("20200101");
+        // 쓰지 않는 컬럼은 String 을 만들지 않습니다.
+        assertThat(line[0]).isNull();
+        assertThat(line[2]).isNull();
+    }
+
+    @Test
+    void keepsCommaInsideQuotes() throws IOException {
+        String[] line = reader(row("9788900000001", "\"자바, 정석\"", "남궁성")).next();
+
+        assertThat(line[BookRowMapper.TITLE_NM]).isEqualTo("자바, 정석");
+        assertThat(line[BookRowMapper.AUTHR_NM]).isEqualTo("남궁성");
+    }
+
+    @Test
+    void keepsNewlineInsideQuotes() throws IOException {
+        BookCsvReader reader = reader(row("9788900000001", "\"첫 줄\n둘째 줄\"", "남궁성")
+                + row("9788900000002", "다음 책", "한강"));
+
+        assertThat(reader.next()[BookRowMapper.TITLE_NM]).isEqualTo("첫 줄\n둘째 줄");
+        assertThat(reader.next()[BookRowMapper.TITLE_NM]).isEqualTo("다음 책");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void unescapesDoubledQuotes() throws IOException {
+        String[] line = reader(row("9788900000001", "\"그는 \"\"안녕\"\" 했다\"", "\"\"\"\"")).next();
+
+        assertThat(line[BookRowMapper.TITLE_NM]).isEqualTo("그는 \"안녕\" 했다");
+        assertThat(line[BookRowMapper.AUTHR_NM]).isEqualTo("\"");
+    }
+
+    @Test
+    void trimsSpacesAndCarriageReturn() throws IOException {
+        String csv = "1, 9788900000001 ,,  \"제목\"  ,\t저자\t,출판사,,,16000,,,,,,20200101,,,\r\n";
+
+        String[] line = reader(csv).next();
+
+        assertThat(line[BookRowMapper.ISBN_THIRTEEN_NO]).isEqualTo("9788900000001");
+        assertThat(line[BookRowMapper.TITLE_NM]).isEqualTo("제목");
+        assertThat(line[BookRowMapper.AUTHR_NM]).isEqualTo("저자");
+        assertThat(line[BookRowMapper.TWO_PBLICTE_DE]).isEqualTo("20200101");
+    }
+
+    @Test
+    void shortRowKeepsItsColumnCount() throws IOException {
+        BookCsvReader reader = reader("1,9788900000001,,제목\n\n");
+
+        String[] line = reader.next();
+        assertThat(line).hasSize(4);
+        assertThat(line[BookRowMapper.TITLE_NM]).isEqualTo("제목");
+
+        // 빈 줄은 컬럼 1 개짜리 레코드
+        assertThat(reader.next()).hasSize(1);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void unterminatedQuoteReadsToEnd() throws IOException {
+        BookCsvReader reader = reader("1,9788900000001,,\"닫히지 않은, 제목");
+
+        String[] line = reader.next();
+
+        assertThat(line).hasSize(4);
+        assertThat(line[BookRowMapper.TITLE_NM]).isEqualTo("닫히지 않은, 제목");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void skipsHeaderRecords() throws IOException {
+        BookCsvReader reader = reader("SEQ_NO,ISBN_THIRTEEN_NO\n" + row("9788900000001", "제목", "저자"));
+
+        assertThat(reader.skip(1).next()[BookRowMapper.ISBN_THIRTEEN_NO]).isEqualTo("9788900000001");
+    }
+
+    @Test
+    void readsAcrossShortReadsAndLongFields() throws IOException {
+        String title = "가".repeat(1000);
+        // 한 번에 한 글자씩만 돌려주는 Reader (버퍼 경계가 필드 중간에 걸림)
+        Reader oneCharAtATime = new Reader() {
+            private final StringReader source = new StringReader(row("9788900000001", "\"" + title + "\"", "저자"));
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return source.read(buffer, offset, Math.min(length, 1));
+            }
+
+            @Override
+            public void close() {
+                source.close();
+            }
+        };
+
+        try (BookCsvReader reader = new BookCsvReader(oneCharAtATime)) {
+            String[] line = reader.next();
+            assertThat(line[BookRowMapper.TITLE_NM]).isEqualTo(title);
+            assertThat(line[BookRowMapper.AUTHR_NM]).isEqualTo("저자");
+            assertThat(reader.next()).isNull();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.nhnacademy.book.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomDateConverterTests {
+
+    @Test
+    void parsesBothFormats() {
+        assertThat(CustomDateConverter.parse("20200131")).isEqualTo(LocalDate.of(2020, 1, 31));
+        assertThat(CustomDateConverter.parse("2020-01-31")).isEqualTo(LocalDate.of(2020, 1, 31));
+        assertThat(CustomDateConverter.parse("00010101")).isEqualTo(LocalDate.of(1, 1, 1));
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        assertThat(CustomDateConverter.parse("19982001")).isNull();
+        assertThat(CustomDateConverter.parse("19940800")).isNull();
+        assertThat(CustomDateConverter.parse("19940832")).isNull();
+        assertThat(CustomDateConverter.parse("1994080")).isNull();
+        assertThat(CustomDateConverter.parse("1994/08/01")).isNull();
+        assertThat(CustomDateConverter.parse("1994-0801")).isNull();
+        assertThat(CustomDateConverter.parse("1994080a")).isNull();
+        assertThat(CustomDateConverter.parse("-9940801")).isNull();
+        assertThat(CustomDateConverter.parse("")).isNull();
+    }
+
+    @Test
+    void clampsDayToEndOfMonth() {
+        // 기존 포맷터(ResolverStyle.SMART)와 같게 그 달의 마지막 날로 맞춥니다.
+        assertThat(CustomDateConverter.parse("20230231")).isEqualTo(LocalDate.of(2023, 2, 28));
+        assertThat(CustomDateConverter.parse("20240230")).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(CustomDateConverter.parse("19000229")).isEqualTo(LocalDate.of(1900, 2, 28));
+        assertThat(CustomDateConverter.parse("20000229")).isEqualTo(LocalDate.of(2000, 2, 29));
+        assertThat(CustomDateConverter.parse("2023-04-31")).isEqualTo(LocalDate.of(2023, 4, 30));
+    }
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.book.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomPriceConverterTests {
+
+    @Test
+    void parsesIntegerAndDecimalPrices() {
+        assertThat(CustomPriceConverter.parse("16000")).isEqualTo(16000);
+        assertThat(CustomPriceConverter.parse("0")).isZero();
+        // 소수점 아래는 버립니다.
+        assertThat(CustomPriceConverter.parse("10590.99")).isEqualTo(10590);
+        assertThat(CustomPriceConverter.parse(".5")).isZero();
+        assertThat(CustomPriceConverter.parse("12.")).isEqualTo(12);
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        assertThat(CustomPriceConverter.parse("")).isEqualTo(CustomPriceConverter.INVALID);
+        assertThat(CustomPriceConverter.parse(".")).isEqualTo(CustomPriceConverter.INVALID);
+        assertThat(CustomPriceConverter.parse("-100")).isEqualTo(CustomPriceConverter.INVALID);
+        assertThat(CustomPriceConverter.parse("1,000")).isEqualTo(CustomPriceConverter.INVALID);
+        assertThat(CustomPriceConverter.parse("12.3.4")).isEqualTo(CustomPriceConverter.INVALID);
+        assertThat(CustomPriceConverter.parse("12.x")).isEqualTo(CustomPriceConverter.INVALID);
+        assertThat(CustomPriceConverter.parse(" 100")).isEqualTo(CustomPriceConverter.INVALID);
+    }
+
+    @Test
+    void rejectsOverflow() {
+        assertThat(CustomPriceConverter.parse("2147483647")).isEqualTo(Integer.MAX_VALUE);
+        assertThat(CustomPriceConverter.parse("2147483648")).isEqualTo(CustomPriceConverter.INVALID);
+        assertThat(CustomPriceConverter.parse("99999999999999999999")).isEqualTo(CustomPriceConverter.INVALID);
+    }
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.book.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameNormalizerTests {
+
+    @Test
+    void removesRoleAndCollapsesSpaces() {
+        assertThat(NameNormalizer.normalize("한강 (지은이)")).isEqualTo("한강");
+        assertThat(NameNormalizer.normalize("  홍길동(옮긴이)  ")).isEqualTo("홍길동");
+        assertThat(NameNormalizer.normalize("도서출판   길벗")).isEqualTo("도서출판 길벗");
+        // 괄호가 이름 사이에 있으면 공백 하나로 남습니다.
+        assertThat(NameNormalizer.normalize("김(엮음)철수")).isEqualTo("김 철수");
+        assertThat(NameNormalizer.normalize("이름 (역할 (중첩)) 뒤")).isEqualTo("이름 뒤");
+    }
+
+    @Test
+    void handlesEmptyAndUnbalancedInput() {
+        assertThat(NameNormalizer.normalize(null)).isEmpty();
+        assertThat(NameNormalizer.normalize("(지은이)")).isEmpty();
+        // 닫는 괄호만 있으면 글자로 둡니다.
+        assertThat(NameNormalizer.normalize("a)b")).isEqualTo("a)b");
+        // 닫히지 않은 괄호 뒤는 버립니다.
+        assertThat(NameNormalizer.normalize("한강 (지은이")).isEqualTo("한강");
+    }
+
+    @Test
+    void splitsAuthorsWithoutBlanksOrDuplicates() {
+        assertThat(NameNormalizer.splitAuthors("한강 (지은이),  홍길동(옮긴이)")).containsExactly("한강", "홍길동");
+        assertThat(NameNormalizer.splitAuthors("한강, ,한강 (지은이),(그림)")).containsExactly("한강");
+        assertThat(NameNormalizer.splitAuthors("  ")).isEmpty();
+        assertThat(NameNormalizer.splitAuthors(null)).isEmpty();
+    }
+}
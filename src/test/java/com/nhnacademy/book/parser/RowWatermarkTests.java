@@ -0,0 +1,38 @@
+package com.nhnacademy.book.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowWatermarkTests {
+
+    @Test
+    void advancesOnlyOverContiguousChunks() {
+        RowWatermark watermark = new RowWatermark(100);
+
+        // 청크 1, 2 가 먼저 끝나도 청크 0 이 끝나기 전에는 시작 위치 그대로
+        assertThat(watermark.complete(1, 300)).isEqualTo(100L);
+        assertThat(watermark.complete(2, 400)).isEqualTo(100L);
+
+        assertThat(watermark.complete(0, 200)).isEqualTo(400L);
+        assertThat(watermark.lastRow()).isEqualTo(400L);
+    }
+
+    @Test
+    void stopsAtGap() {
+        RowWatermark watermark = new RowWatermark(0);
+
+        watermark.complete(0, 10);
+        watermark.complete(2, 30);
+        watermark.complete(3, 40);
+
+        assertThat(watermark.lastRow()).isEqualTo(10L);
+        assertThat(watermark.complete(1, 20)).isEqualTo(40L);
+        assertThat(watermark.complete(4, 50)).isEqualTo(50L);
+    }
+
+    @Test
+    void startsAtGivenRow() {
+        assertThat(new RowWatermark(1234).lastRow()).isEqualTo(1234L);
+    }
+}
@@ -0,0 +1,50 @@
+package com.nhnacademy.book.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramTokenizerTests {
+
+    private static int term(char first, char second) {
+        return first << 16 | second;
+    }
+
+    @Test
+    void splitsRunsIntoOverlappingBigrams() {
+        assertThat(BigramTokenizer.tokenize("자바의정석"))
+                .containsExactly(term('자', '바'), term('바', '의'), term('의', '정'), term('정', '석'));
+    }
+
+    @Test
+    void breaksRunsOnSpacesAndPunctuation() {
+        assertThat(BigramTokenizer.tokenize("자바, 정석!"))
+                .containsExactly(term('자', '바'), term('정', '석'));
+    }
+
+    @Test
+    void keepsSingleCharacterRunAsOneTerm() {
+        assertThat(BigramTokenizer.tokenize("C 언어"))
+                .containsExactly(term('c', (char) 0), term('언', '어'));
+    }
+
+    @Test
+    void normalizesWidthAndCase() {
+        // 전각 영문/숫자는 NFKC 로 반각이 되고, 영문은 소문자로 맞춥니다.
+        assertThat(BigramTokenizer.tokenize("ＪＡＶＡ２１")).containsExactly(BigramTokenizer.tokenize("java21"));
+    }
+
+    @Test
+    void uniqueTermsAreSortedAndDistinct() {
+        int[] terms = BigramTokenizer.uniqueTerms("자바 자바 자바");
+
+        assertThat(terms).containsExactly(term('자', '바'));
+    }
+
+    @Test
+    void emptyOrNullTextHasNoTerms() {
+        assertThat(BigramTokenizer.tokenize(null)).isEmpty();
+        assertThat(BigramTokenizer.tokenize("")).isEmpty();
+        assertThat(BigramTokenizer.tokenize(" .,!? ")).isEmpty();
+    }
+}
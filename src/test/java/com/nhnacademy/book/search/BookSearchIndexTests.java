@@ -0,0 +1,142 @@
+package com.nhnacademy.book.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSearchIndexTests {
+
+    private final List<BookSearchIndex> indexes = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        indexes.forEach(BookSearchIndex::shutdown);
+    }
+
+    // DB 없이 쓰는 색인 (델타가 넘쳐도 다시 만들지 않도록 delta-max 를 크게)
+    private BookSearchIndex newIndex(Map<Long, String[]> books) {
+        BookSearchIndex index = new BookSearchIndex(null, 1000, Integer.MAX_VALUE);
+        indexes.add(index);
+        index.build("test", builder -> books.forEach((bookId, book) -> builder.add(bookId, book[0], book[1])));
+        return index;
+    }
+
+    // 문서 길이가 모두 달라서 점수가 겹치지 않는 카탈로그
+    private static Map<Long, String[]> catalog() {
+        Map<Long, String[]> books = new TreeMap<>();
+        for (long bookId = 1; bookId <= 60; bookId++) {
+            String title = switch ((int) (bookId % 3)) {
+                case 0 -> "자바 프로그래밍";
+                case 1 -> "파이썬 프로그래밍";
+                default -> "데이터베이스 설계";
+            };
+            books.put(bookId, new String[]{title, "소개" + "글".repeat((int) bookId)});
+        }
+        return books;
+    }
+
+    @Test
+    void findsBooksContainingEveryBigram() {
+        BookSearchIndex index = newIndex(catalog());
+
+        BookSearchIndex.Result result = index.search("자바 프로그래밍", 100);
+
+        assertThat(result.totalHits()).isEqualTo(20L);
+        assertThat(result.bookIds()).hasSize(20);
+        assertThat(result.bookIds().stream().allMatch(bookId -> bookId % 3 == 0)).isTrue();
+        assertThat(index.search("자바 설계", 100).totalHits()).isEqualTo(0L);
+    }
+
+    @Test
+    void ranksTitleMatchAboveDescriptionMatch() {
+        Map<Long, String[]> books = new TreeMap<>();
+        books.put(1L, new String[]{"요리 이야기", "자바 섬 여행기"});
+        books.put(2L, new String[]{"자바 여행", "요리 이야기"});
+        BookSearchIndex index = newIndex(books);
+
+        assertThat(index.search("자바", 10).bookIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void limitsResultsButCountsAllHits() {
+        BookSearchIndex index = newIndex(catalog());
+
+        BookSearchIndex.Result result = index.search("프로그래밍", 5);
+
+        assertThat(result.totalHits()).isEqualTo(40L);
+        assertThat(result.bookIds()).hasSize(5);
+    }
+
+    @Test
+    void updatedBookReplacesItsMainCopy() {
+        BookSearchIndex index = newIndex(catalog());
+
+        index.index(3L, "스프링 부트", "소개");
+
+        assertThat(index.search("자바 프로그래밍", 100).bookIds()).doesNotContain(3L);
+        assertThat(index.search("자바 프로그래밍", 100).totalHits()).isEqualTo(19L);
+        assertThat(index.search("스프링", 10).bookIds()).containsExactly(3L);
+    }
+
+    @Test
+    void newBookIsSearchableBeforeRebuild() {
+        BookSearchIndex index = newIndex(catalog());
+
+        index.index(100L, "자바 프로그래밍 입문", "");
+
+        assertThat(index.search("입문", 10).bookIds()).containsExactly(100L);
+        assertThat(index.search("자바 프로그래밍", 100).totalHits()).isEqualTo(21L);
+    }
+
+    // 델타에 올라간 수정이 있어도 문서 수 / 평균 길이 / 문서 빈도는 처음부터 다시 만든 색인과 같아야 합니다.
+    // (가린 예전 사본을 세면 idf 와 평균 길이가 달라져 순위가 바뀜)
+    @Test
+    void deltaRankingMatchesFullRebuild() {
+        Map<Long, String[]> books = catalog();
+        BookSearchIndex withDelta = newIndex(books);
+
+        Map<Long, String[]> updated = new TreeMap<>(books);
+        for (long bookId = 1; bookId <= 60; bookId += 4) {
+            String[] book = {"자바 데이터베이스 프로그래밍", "개정판" + "글".repeat((int) bookId * 2)};
+            updated.put(bookId, book);
+            withDelta.index(bookId, book[0], book[1]);
+        }
+        updated.put(61L, new String[]{"파이썬 데이터베이스", "신간"});
+        withDelta.index(61L, "파이썬 데이터베이스", "신간");
+
+        BookSearchIndex rebuilt = newIndex(updated);
+
+        for (String query : List.of("자바", "프로그래밍", "데이터베이스", "자바 데이터베이스", "파이썬", "소개", "개정판")) {
+            BookSearchIndex.Result expected = rebuilt.search(query, 10);
+            BookSearchIndex.Result actual = withDelta.search(query, 10);
+
+            assertThat(actual.totalHits()).isEqualTo(expected.totalHits());
+            assertThat(actual.bookIds()).isEqualTo(expected.bookIds());
+        }
+    }
+
+    // 다시 만든 본 세그먼트에 이미 들어간 변경은 델타에서 빠지고, 그 뒤의 변경은 남습니다.
+    @Test
+    void rebuildKeepsOnlyChangesMadeAfterItStarted() {
+        BookSearchIndex index = newIndex(catalog());
+        index.index(3L, "스프링 부트", "소개");
+
+        Map<Long, String[]> reloaded = catalog();
+        reloaded.put(3L, new String[]{"스프링 부트", "소개"});
+        index.build("test", builder -> {
+            reloaded.forEach((bookId, book) -> builder.add(bookId, book[0], book[1]));
+            // 다시 만드는 도중에 커밋된 수정
+            index.index(6L, "코틀린", "소개");
+        });
+
+        assertThat(index.search("스프링", 10).bookIds()).containsExactly(3L);
+        assertThat(index.search("코틀린", 10).bookIds()).containsExactly(6L);
+        assertThat(index.search("자바 프로그래밍", 100).totalHits()).isEqualTo(18L);
+    }
+}
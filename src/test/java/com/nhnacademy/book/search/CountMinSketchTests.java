@@ -0,0 +1,35 @@
+package com.nhnacademy.book.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountMinSketchTests {
+
+    @Test
+    void neverUnderestimates() {
+        CountMinSketch sketch = new CountMinSketch(1024);
+        for (int i = 0; i < 5000; i++) {
+            sketch.add("제목" + (i % 1000));
+        }
+        sketch.add("인기");
+        sketch.add("인기");
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sketch.estimate("제목" + i)).isGreaterThanOrEqualTo(5);
+        }
+        assertThat(sketch.estimate("인기")).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void isExactWhenKeysAreFew() {
+        CountMinSketch sketch = new CountMinSketch(1024);
+        sketch.add("자바");
+        sketch.add("자바");
+        sketch.add("파이썬");
+
+        assertThat(sketch.estimate("자바")).isEqualTo(2);
+        assertThat(sketch.estimate("파이썬")).isEqualTo(1);
+        assertThat(sketch.estimate("루비")).isZero();
+    }
+}
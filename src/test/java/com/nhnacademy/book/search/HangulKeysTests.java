@@ -0,0 +1,39 @@
+package com.nhnacademy.book.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulKeysTests {
+
+    @Test
+    void normalizeDropsSpacesAndSymbolsAndLowercases() {
+        assertThat(HangulKeys.normalize("자바의 정석 (3판)")).isEqualTo("자바의정석3판");
+        assertThat(HangulKeys.normalize("Effective JAVA")).isEqualTo("effectivejava");
+        // 전각 글자는 NFKC 로 반각이 됩니다.
+        assertThat(HangulKeys.normalize("ＡＢＣ１")).isEqualTo("abc1");
+        assertThat(HangulKeys.normalize(null)).isEmpty();
+        assertThat(HangulKeys.normalize(" - ")).isEmpty();
+    }
+
+    @Test
+    void choseongReplacesSyllablesOnly() {
+        String key = HangulKeys.choseong("한강java3");
+
+        assertThat(key).isEqualTo("ᄒᄀjava3");
+    }
+
+    @Test
+    void choseongIsNullWithoutSyllables() {
+        assertThat(HangulKeys.choseong("java")).isNull();
+        assertThat(HangulKeys.choseong("")).isNull();
+    }
+
+    @Test
+    void typedChoseongMatchesChoseongKey() {
+        // 사용자가 입력한 호환 자모(ㅎㄱ)는 normalize 를 거치면 초성 키와 같아집니다.
+        assertThat(HangulKeys.normalize("ㅎㄱ")).isEqualTo(HangulKeys.choseong(HangulKeys.normalize("한강")));
+        // 첫 음절과 마지막 음절
+        assertThat(HangulKeys.choseong("가힣")).isEqualTo("ᄀᄒ");
+    }
+}
@@ -0,0 +1,84 @@
+package com.nhnacademy.book.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexSegmentTests {
+
+    private static int term(char first, char second) {
+        return first << 16 | second;
+    }
+
+    private static IndexSegment segment() {
+        IndexSegment.Builder builder = new IndexSegment.Builder();
+        builder.add(10, "자바의 정석", "자바 입문서");
+        builder.add(20, "파이썬", null);
+        builder.add(30, "모던 자바", "자바 자바");
+        return builder.build();
+    }
+
+    @Test
+    void countsTitleTermsWithWeight() {
+        IndexSegment.DocTerms doc = IndexSegment.DocTerms.of("자바", "자바 자바");
+
+        // 제목 1 회 * 2 + 소개글 2 회
+        assertThat(doc.tf(term('자', '바'))).isEqualTo(4);
+        assertThat(doc.length()).isEqualTo(4);
+        assertThat(doc.tf(term('파', '이'))).isEqualTo(0);
+    }
+
+    @Test
+    void keepsDocumentStatistics() {
+        IndexSegment segment = segment();
+
+        assertThat(segment.docCount()).isEqualTo(3);
+        assertThat(segment.bookId(1)).isEqualTo(20L);
+        assertThat(segment.docLength(1)).isEqualTo(4);
+        assertThat(segment.totalLength()).isEqualTo(
+                (long) segment.docLength(0) + segment.docLength(1) + segment.docLength(2));
+        assertThat(segment.docFrequency(term('자', '바'))).isEqualTo(2);
+        assertThat(segment.docFrequency(term('없', '다'))).isEqualTo(0);
+    }
+
+    @Test
+    void findsDocumentNumberByBookId() {
+        IndexSegment segment = segment();
+
+        assertThat(segment.docOf(10)).isEqualTo(0);
+        assertThat(segment.docOf(30)).isEqualTo(2);
+        assertThat(segment.docOf(25)).isEqualTo(-1);
+        assertThat(IndexSegment.empty().docOf(10)).isEqualTo(-1);
+    }
+
+    @Test
+    void postingsListDocumentsInOrderWithTermFrequency() {
+        PostingList.Cursor cursor = segment().postings(term('자', '바'));
+
+        List<String> postings = new ArrayList<>();
+        while (cursor.next()) {
+            postings.add(cursor.doc() + ":" + cursor.tf());
+        }
+        assertThat(postings).containsExactly("0:3", "2:4");
+        assertThat(segment().postings(term('없', '다'))).isNull();
+    }
+
+    @Test
+    void advanceSkipsToFirstDocumentAtOrAfterTarget() {
+        IndexSegment.Builder builder = new IndexSegment.Builder();
+        for (int bookId = 1; bookId <= 1000; bookId++) {
+            builder.add(bookId, bookId % 3 == 0 ? "자바" : "파이썬", null);
+        }
+        PostingList.Cursor cursor = builder.build().postings(term('자', '바'));
+
+        assertThat(cursor.advance(100)).isTrue();
+        assertThat(cursor.doc()).isEqualTo(101);
+        assertThat(cursor.advance(101)).isTrue();
+        assertThat(cursor.doc()).isEqualTo(101);
+        assertThat(cursor.advance(999)).isFalse();
+        assertThat(cursor.advance(0)).isFalse();
+    }
+}
@@ -0,0 +1,78 @@
+package com.nhnacademy.book.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTests {
+
+    private static PrefixTrie.Entry title(String text, int weight) {
+        return new PrefixTrie.Entry(text, PrefixTrie.Kind.TITLE, weight);
+    }
+
+    private static List<String> texts(List<PrefixTrie.Entry> entries) {
+        return entries.stream().map(PrefixTrie.Entry::text).toList();
+    }
+
+    @Test
+    void suggestsByPopularityThenShorterText() {
+        PrefixTrie trie = PrefixTrie.build(List.of(
+                title("자바의 정석", 3),
+                title("자바 입문", 5),
+                title("자바", 3),
+                title("파이썬", 9)), 10, 20);
+
+        assertThat(texts(trie.suggest("자바", 10))).containsExactly("자바 입문", "자바", "자바의 정석");
+        assertThat(texts(trie.suggest("자바", 2))).containsExactly("자바 입문", "자바");
+        assertThat(trie.suggest("루비", 10)).isEmpty();
+        assertThat(trie.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void matchesIgnoringSpacesAndCase() {
+        PrefixTrie trie = PrefixTrie.build(List.of(title("Effective Java", 1)), 10, 20);
+
+        assertThat(texts(trie.suggest("effectivej", 10))).containsExactly("Effective Java");
+    }
+
+    @Test
+    void matchesChoseongOnce() {
+        PrefixTrie trie = PrefixTrie.build(List.of(
+                title("한강", 2),
+                new PrefixTrie.Entry("한강", PrefixTrie.Kind.AUTHOR, 7)), 10, 20);
+
+        List<PrefixTrie.Entry> result = trie.suggest("ㅎㄱ", 10);
+
+        assertThat(result.stream().map(PrefixTrie.Entry::kind).toList()).containsExactly(PrefixTrie.Kind.AUTHOR, PrefixTrie.Kind.TITLE);
+        // 초성 키와 정규화 키가 같은 노드를 지나도 한 번만 나옵니다.
+        assertThat(trie.suggest("한", 10)).hasSize(2);
+    }
+
+    @Test
+    void keepsTopKPerNode() {
+        PrefixTrie trie = PrefixTrie.build(List.of(
+                title("가a", 1), title("가b", 2), title("가c", 3), title("가d", 4)), 2, 20);
+
+        assertThat(texts(trie.suggest("가", 10))).containsExactly("가d", "가c");
+        assertThat(texts(trie.suggest("가a", 10))).containsExactly("가a");
+    }
+
+    @Test
+    void filtersPrefixesLongerThanMaxDepth() {
+        PrefixTrie trie = PrefixTrie.build(List.of(title("abcdef", 2), title("abcxyz", 1)), 10, 3);
+
+        assertThat(texts(trie.suggest("abc", 10))).containsExactly("abcdef", "abcxyz");
+        assertThat(texts(trie.suggest("abcx", 10))).containsExactly("abcxyz");
+        assertThat(trie.suggest("abcq", 10)).isEmpty();
+    }
+
+    @Test
+    void emptyTrieSuggestsNothing() {
+        PrefixTrie trie = PrefixTrie.empty();
+
+        assertThat(trie.size()).isZero();
+        assertThat(trie.suggest("가", 10)).isEmpty();
+    }
+}
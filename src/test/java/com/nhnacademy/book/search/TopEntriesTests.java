@@ -0,0 +1,65 @@
+package com.nhnacademy.book.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TopEntriesTests {
+
+    private static List<String> texts(TopEntries top) {
+        return top.entries().stream().map(PrefixTrie.Entry::text).toList();
+    }
+
+    @Test
+    void keepsOnlyStrongestCapacityEntries() {
+        TopEntries top = new TopEntries(3);
+        for (int i = 1; i <= 10; i++) {
+            top.offer("제목" + i, PrefixTrie.Kind.TITLE, i);
+        }
+
+        assertThat(texts(top)).containsExactly("제목10", "제목9", "제목8");
+        assertThat(top.offered()).isEqualTo(10L);
+    }
+
+    @Test
+    void ignoresRepeatedEntryAndKeepsKindsApart() {
+        TopEntries top = new TopEntries(3);
+        top.offer("한강", PrefixTrie.Kind.TITLE, 2);
+        top.offer("한강", PrefixTrie.Kind.TITLE, 2);
+        top.offer("한강", PrefixTrie.Kind.AUTHOR, 5);
+
+        assertThat(top.entries()).containsExactly(
+                new PrefixTrie.Entry("한강", PrefixTrie.Kind.AUTHOR, 5),
+                new PrefixTrie.Entry("한강", PrefixTrie.Kind.TITLE, 2));
+    }
+
+    @Test
+    void evictedEntryDoesNotComeBack() {
+        TopEntries top = new TopEntries(2);
+        top.offer("a", PrefixTrie.Kind.TITLE, 1);
+        top.offer("b", PrefixTrie.Kind.TITLE, 2);
+        top.offer("c", PrefixTrie.Kind.TITLE, 3);
+        // 스냅샷 적재처럼 같은 항목이 같은 가중치로 다시 옵니다.
+        top.offer("a", PrefixTrie.Kind.TITLE, 1);
+        top.offer("c", PrefixTrie.Kind.TITLE, 3);
+
+        assertThat(texts(top)).containsExactly("c", "b");
+    }
+
+    @Test
+    void breaksTiesByShorterText() {
+        TopEntries top = new TopEntries(1);
+        top.offer("긴 제목", PrefixTrie.Kind.TITLE, 1);
+        top.offer("제목", PrefixTrie.Kind.TITLE, 1);
+
+        assertThat(texts(top)).containsExactly("제목");
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new TopEntries(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
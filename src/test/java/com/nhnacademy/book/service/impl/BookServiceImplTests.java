@@ -0,0 +1,134 @@
+package com.nhnacademy.book.service.impl;
+
+import com.nhnacademy.book.cache.BookDetailCache;
+import com.nhnacademy.book.dto.BookBatchRequest;
+import com.nhnacademy.book.dto.BookBatchResponse;
+import com.nhnacademy.book.dto.BookDetailResponse;
+import com.nhnacademy.book.entity.Book;
+import com.nhnacademy.book.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 도서 여러 건 조회 (getBooks): 저장소는 mock, 상세 캐시는 실제 객체
+class BookServiceImplTests {
+
+    // 체크섬이 맞는 ISBN-13 과 같은 책의 ISBN-10 표기
+    private static final String ISBN_1 = "9788966262281";
+    private static final String ISBN_1_HYPHEN = "978-89-6626-228-1";
+    private static final String ISBN_2 = "9788960771468";
+    private static final String ISBN_2_TEN = "8960771465";
+    private static final String MISSING_ISBN = "9791162241950";
+
+    private final List<Book> books = List.of(book(1L, ISBN_1), book(2L, ISBN_2), book(3L, "9791158391287"));
+
+    private BookRepository bookRepository;
+    private BookServiceImpl bookService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        when(bookRepository.findDetailsByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> bookIds = invocation.getArgument(0);
+            return books.stream().filter(book -> bookIds.contains(book.getBookId())).toList();
+        });
+        when(bookRepository.findDetailsByIsbnIn(any())).thenAnswer(invocation -> {
+            Collection<String> isbns = invocation.getArgument(0);
+            return books.stream().filter(book -> isbns.contains(book.getIsbn())).toList();
+        });
+
+        BookDetailCache bookDetailCache = new BookDetailCache(100, 60, new SimpleMeterRegistry(), null);
+        bookService = new BookServiceImpl(bookRepository, null, null, bookDetailCache, null, null, null, null);
+    }
+
+    @Test
+    void idsOnly() {
+        BookBatchResponse response = bookService.getBooks(request(Arrays.asList(3L, null, 1L, 99L, 3L), null));
+
+        assertThat(bookIds(response)).containsExactly(3L, 1L);
+        assertThat(response.getMissingBookIds()).containsExactly(99L);
+        assertThat(response.getMissingIsbns()).isEmpty();
+        verify(bookRepository, never()).findDetailsByIsbnIn(any());
+    }
+
+    @Test
+    void isbnsOnly() {
+        BookBatchResponse response = bookService.getBooks(
+                request(null, Arrays.asList(ISBN_2, null, MISSING_ISBN, ISBN_1)));
+
+        assertThat(bookIds(response)).containsExactly(2L, 1L);
+        assertThat(response.getMissingBookIds()).isEmpty();
+        assertThat(response.getMissingIsbns()).containsExactly(MISSING_ISBN);
+        verify(bookRepository, never()).findDetailsByIdIn(any());
+    }
+
+    @Test
+    void isbnsAreNormalizedBeforeLookup() {
+        BookBatchResponse response = bookService.getBooks(
+                request(null, List.of(ISBN_1_HYPHEN, ISBN_2_TEN, "979-11-6224-195-0", "abc", ISBN_1)));
+
+        // 하이픈/ISBN-10 표기도 찾고, 같은 책을 다른 표기로 다시 보내면 한 번만 나옵니다.
+        assertThat(bookIds(response)).containsExactly(1L, 2L);
+        // 못 찾은 ISBN 은 받은 글 그대로 돌려줍니다. (잘못된 ISBN 포함)
+        assertThat(response.getMissingIsbns()).containsExactly("979-11-6224-195-0", "abc");
+    }
+
+    @Test
+    void idsAndIsbns() {
+        BookBatchResponse response = bookService.getBooks(
+                request(List.of(3L, 42L), List.of(ISBN_1_HYPHEN, MISSING_ISBN)));
+
+        // id 결과 다음에 ISBN 결과 (각각 요청 순서)
+        assertThat(bookIds(response)).containsExactly(3L, 1L);
+        assertThat(response.getMissingBookIds()).containsExactly(42L);
+        assertThat(response.getMissingIsbns()).containsExactly(MISSING_ISBN);
+
+        // ISBN 으로 읽은 상세도 캐시에 들어가므로 id 로 다시 물으면 DB 에 가지 않습니다.
+        bookService.getBooks(request(List.of(1L), null));
+        verify(bookRepository, never()).findDetailsByIdIn(Set.of(1L));
+    }
+
+    @Test
+    void tooManyIsRejected() {
+        List<Long> bookIds = new ArrayList<>();
+        for (long bookId = 1; bookId <= 501; bookId++) {
+            bookIds.add(bookId);
+        }
+
+        assertThatThrownBy(() -> bookService.getBooks(request(bookIds, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BookBatchRequest request(List<Long> bookIds, List<String> isbns) {
+        BookBatchRequest request = new BookBatchRequest();
+        request.setBookIds(bookIds);
+        request.setIsbns(isbns);
+        return request;
+    }
+
+    private static List<Long> bookIds(BookBatchResponse response) {
+        return response.getBooks().stream().map(BookDetailResponse::getBookId).toList();
+    }
+
+    private static Book book(Long bookId, String isbn) {
+        Book book = new Book();
+        book.setBookId(bookId);
+        book.setIsbn(isbn);
+        book.setBookName("도서 " + bookId);
+        return book;
+    }
+}
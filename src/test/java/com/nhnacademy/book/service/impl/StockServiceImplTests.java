@@ -0,0 +1,222 @@
+package com.nhnacademy.book.service.impl;
+
+import com.nhnacademy.book.cache.BookDetailCache;
+import com.nhnacademy.book.category.CategoryTreeCache;
+import com.nhnacademy.book.dto.BookUpdateRequest;
+import com.nhnacademy.book.dto.StockRequest;
+import com.nhnacademy.book.entity.Book;
+import com.nhnacademy.book.entity.BookState;
+import com.nhnacademy.book.exception.InsufficientStockException;
+import com.nhnacademy.book.exception.StockChangedException;
+import com.nhnacademy.book.isbn.IsbnIndex;
+import com.nhnacademy.book.repository.BookRepository;
+import com.nhnacademy.book.search.BookSearchIndex;
+import com.nhnacademy.book.search.BookSuggestIndex;
+import com.nhnacademy.book.snapshot.CatalogGenerationCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+
+// 재고 차감/복구와 관리자 재고 수정의 조건부 UPDATE (H2)
+// 서비스가 자기 트랜잭션을 커밋/롤백하도록 테스트 트랜잭션은 쓰지 않고, 끝나면 도서를 지웁니다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StockServiceImpl.class, BookServiceImpl.class})
+class StockServiceImplTests {
+
+    @Autowired
+    private StockServiceImpl stockService;
+
+    @Autowired
+    private BookServiceImpl bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private BookDetailCache bookDetailCache;
+
+    @MockitoBean
+    private CategoryTreeCache categoryTreeCache;
+
+    @MockitoBean
+    private BookSearchIndex bookSearchIndex;
+
+    @MockitoBean
+    private BookSuggestIndex bookSuggestIndex;
+
+    @MockitoBean
+    private IsbnIndex isbnIndex;
+
+    @MockitoBean
+    private CatalogGenerationCounter catalogGenerationCounter;
+
+    private int nextIsbn;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from book");
+    }
+
+    @Test
+    void reserveDecreasesEveryItem() {
+        Long first = saveBook(5);
+        Long second = saveBook(3);
+
+        stockService.reserve(request(first, 2, second, 3));
+
+        assertThat(stock(first)).isEqualTo(3);
+        assertThat(stock(second)).isZero();
+    }
+
+    @Test
+    void shortItemRejectsWholeReservation() {
+        Long first = saveBook(5);
+        Long second = saveBook(1);
+
+        assertThatThrownBy(() -> stockService.reserve(request(first, 2, second, 2)))
+                .isInstanceOf(InsufficientStockException.class);
+
+        assertThat(stock(first)).isEqualTo(5);
+        assertThat(stock(second)).isEqualTo(1);
+    }
+
+    @Test
+    void failedDecrementRollsBackEarlierDecrements() {
+        Long first = saveBook(5);
+        Long second = saveBook(3);
+
+        // 확인(findStocks)과 차감 사이에 다른 주문이 두 번째 도서를 모두 가져간 상황
+        // 첫 번째 도서를 차감한 직후(evict)에 별도 트랜잭션으로 두 번째 도서 재고를 0 으로 커밋합니다.
+        doAnswer(invocation -> {
+            newTransaction().executeWithoutResult(status ->
+                    jdbcTemplate.update("update book set book_stock = 0 where book_id = ?", second));
+            return null;
+        }).when(bookDetailCache).evict(first);
+
+        assertThatThrownBy(() -> stockService.reserve(request(first, 2, second, 1)))
+                .isInstanceOf(InsufficientStockException.class);
+
+        // 첫 번째 도서 차감도 함께 롤백됩니다.
+        assertThat(stock(first)).isEqualTo(5);
+        assertThat(stock(second)).isZero();
+    }
+
+    @Test
+    void duplicateBookIdsAreMerged() {
+        Long bookId = saveBook(4);
+
+        // 한 건씩은 재고 안이지만 합치면 5 라서 거절됩니다.
+        assertThatThrownBy(() -> stockService.reserve(request(bookId, 2, bookId, 3)))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(stock(bookId)).isEqualTo(4);
+
+        stockService.reserve(request(bookId, 1, bookId, 3));
+        assertThat(stock(bookId)).isZero();
+    }
+
+    @Test
+    void unknownBookIsRejected() {
+        Long bookId = saveBook(5);
+
+        assertThatThrownBy(() -> stockService.reserve(request(bookId, 1, bookId + 1000, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(stock(bookId)).isEqualTo(5);
+
+        // 복구도 없는 도서가 섞이면 전체를 되돌립니다.
+        assertThatThrownBy(() -> stockService.release(request(bookId, 1, bookId + 1000, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(stock(bookId)).isEqualTo(5);
+    }
+
+    @Test
+    void releaseIncreasesStock() {
+        Long first = saveBook(0);
+        Long second = saveBook(2);
+
+        stockService.release(request(first, 1, second, 3, first, 2));
+
+        assertThat(stock(first)).isEqualTo(3);
+        assertThat(stock(second)).isEqualTo(5);
+    }
+
+    @Test
+    void updateBookFailsWhenStockChangedAfterRead() {
+        Long bookId = saveBook(5);
+
+        BookUpdateRequest update = new BookUpdateRequest();
+        update.setBookName("수정한 제목");
+        update.setBookState(BookState.ON_SALE);
+        update.setBookStock(10);
+
+        // 관리자가 재고 5 를 읽은 뒤(같은 트랜잭션의 영속성 컨텍스트), 수정 전에 다른 주문이 2 권을 가져갑니다.
+        TransactionTemplate admin = new TransactionTemplate(transactionManager);
+        assertThatThrownBy(() -> admin.executeWithoutResult(status -> {
+            assertThat(bookRepository.findById(bookId).orElseThrow().getBookStock()).isEqualTo(5);
+            newTransaction().executeWithoutResult(order -> stockService.reserve(request(bookId, 2)));
+            bookService.updateBook(bookId, update);
+        })).isInstanceOf(StockChangedException.class);
+
+        // 주문 차감은 남고, 관리자 수정(제목 포함)은 롤백됩니다.
+        assertThat(stock(bookId)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select book_name from book where book_id = ?", String.class, bookId))
+                .isNotEqualTo("수정한 제목");
+    }
+
+    // 진행 중인 트랜잭션과 따로 커밋되는 다른 요청
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate other = new TransactionTemplate(transactionManager);
+        other.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return other;
+    }
+
+    // bookId, 수량, bookId, 수량, ...
+    private static StockRequest request(Object... pairs) {
+        StockRequest.Item[] items = new StockRequest.Item[pairs.length / 2];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new StockRequest.Item((Long) pairs[i * 2], (Integer) pairs[i * 2 + 1]);
+        }
+        StockRequest request = new StockRequest();
+        request.setItems(Arrays.asList(items));
+        return request;
+    }
+
+    private int stock(Long bookId) {
+        return jdbcTemplate.queryForObject("select book_stock from book where book_id = ?", Integer.class, bookId);
+    }
+
+    private Long saveBook(int stock) {
+        int n = nextIsbn++;
+        Book book = new Book();
+        book.setIsbn(Long.toString(9780000000000L + n));
+        book.setBookName("재고 도서 " + n);
+        book.setBookPublicationDate(LocalDate.of(2020, 1, 1));
+        book.setBookState(BookState.ON_SALE);
+        book.setBookStock(stock);
+        book.setBookRegularPrice(16000);
+        book.setBookSalePrice(16000);
+        return bookRepository.save(book).getBookId();
+    }
+}
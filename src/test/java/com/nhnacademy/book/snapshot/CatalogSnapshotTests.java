@@ -0,0 +1,190 @@
+package com.nhnacademy.book.snapshot;
+
+import com.nhnacademy.book.snapshot.SnapshotFileWriter.Section;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogSnapshotTests {
+
+    @TempDir
+    Path directory;
+
+    // 도서 n 권 + 카테고리 2 개 + 저자 1 명 + 출판사 0 곳짜리 스냅샷을 씁니다.
+    private Path writeSnapshot(int bookCount, long generation) throws IOException {
+        Path target = directory.resolve("catalog.snap");
+
+        try (Section books = new Section(SnapshotFormat.SECTION_BOOKS, SnapshotFormat.BOOK_COLUMNS, directory);
+             Section categories = new Section(SnapshotFormat.SECTION_CATEGORIES, SnapshotFormat.CATEGORY_COLUMNS, directory);
+             Section authors = new Section(SnapshotFormat.SECTION_AUTHORS, SnapshotFormat.NAME_COLUMNS, directory);
+             Section publishers = new Section(SnapshotFormat.SECTION_PUBLISHERS, SnapshotFormat.NAME_COLUMNS, directory)) {
+
+            for (int i = 1; i <= bookCount; i++) {
+                books.column(0).writeLong(i);
+                books.column(1).writeLong(i % 3 == 0 ? 0 : 9788900000000L + i);
+                books.column(2).writeLong(i % 5);
+                books.column(3).writeInt(10000 + i);
+                books.column(4).writeInt(9000 + i);
+                books.column(5).writeInt(i % 2 == 0 ? SnapshotFormat.NO_DATE : (int) LocalDate.of(2020, 1, 1).toEpochDay() + i);
+                books.column(6).writeByte(i % 3);
+                books.column(7).writeString(title(i));
+                books.column(8).writeString(description(i));
+                books.rows++;
+            }
+
+            categories.column(0).writeLong(800);
+            categories.column(1).writeLong(0);
+            categories.column(2).writeString("문학");
+            categories.column(0).writeLong(810);
+            categories.column(1).writeLong(800);
+            categories.column(2).writeString("한국문학");
+            categories.rows = 2;
+
+            authors.column(0).writeLong(7);
+            authors.column(1).writeInt(12);
+            authors.column(2).writeString("한강");
+            authors.rows = 1;
+
+            SnapshotFileWriter.write(target, generation, bookCount, bookCount, books, categories, authors, publishers);
+        }
+        return target;
+    }
+
+    // 길이가 제각각인 한글/영문 제목 (창 경계에 걸치도록)
+    private static String title(int i) {
+        return "제목 " + i + " " + "가나다라마바사".repeat(i % 7) + "title".repeat(i % 4);
+    }
+
+    private static String description(int i) {
+        if (i % 4 == 0) {
+            return null;
+        }
+        return i % 4 == 1 ? "" : "소개글 " + i;
+    }
+
+    private static void assertBooks(CatalogSnapshot snapshot, int bookCount) throws IOException {
+        CatalogSnapshot.BookCursor cursor = snapshot.books();
+        assertThat(cursor.size()).isEqualTo(bookCount);
+
+        int i = 0;
+        while (cursor.next()) {
+            i++;
+            assertThat(cursor.bookId()).isEqualTo((long) i);
+            assertThat(cursor.isbn()).isEqualTo(i % 3 == 0 ? 0L : 9788900000000L + i);
+            assertThat(cursor.publisherId()).isEqualTo((long) (i % 5));
+            assertThat(cursor.regularPrice()).isEqualTo(10000 + i);
+            assertThat(cursor.salePrice()).isEqualTo(9000 + i);
+            assertThat(cursor.publicationDate()).isEqualTo(i % 2 == 0 ? null : LocalDate.of(2020, 1, 1).plusDays(i));
+            assertThat(cursor.state()).isEqualTo(i % 3);
+            assertThat(cursor.title()).isEqualTo(title(i));
+            assertThat(cursor.description()).isEqualTo(description(i));
+        }
+        assertThat(i).isEqualTo(bookCount);
+    }
+
+    @Test
+    void roundTripsHeaderAndSections() throws IOException {
+        Path file = writeSnapshot(100, 42);
+
+        try (CatalogSnapshot snapshot = CatalogSnapshot.open(file)) {
+            assertThat(snapshot.getBookCount()).isEqualTo(100L);
+            assertThat(snapshot.getMaxBookId()).isEqualTo(100L);
+            assertThat(snapshot.getCategoryCount()).isEqualTo(2L);
+            assertThat(snapshot.getGeneration()).isEqualTo(42L);
+
+            assertBooks(snapshot, 100);
+
+            List<String> categories = new ArrayList<>();
+            CatalogSnapshot.CategoryCursor category = snapshot.categories();
+            while (category.next()) {
+                categories.add(category.categoryId() + ":" + category.parentId() + ":" + category.name());
+            }
+            assertThat(categories).containsExactly("800:null:문학", "810:800:한국문학");
+
+            CatalogSnapshot.NameCursor author = snapshot.authors();
+            assertThat(author.next()).isTrue();
+            assertThat(author.id()).isEqualTo(7L);
+            assertThat(author.bookCount()).isEqualTo(12);
+            assertThat(author.name()).isEqualTo("한강");
+            assertThat(author.next()).isFalse();
+
+            assertThat(snapshot.publishers().next()).isFalse();
+        }
+    }
+
+    // 창 크기를 아주 작게 해서 컬럼 하나가 수백 개의 창에 걸치게 합니다.
+    // (실제로는 2GB 를 넘는 컬럼이 여러 창으로 나뉘는 경우) 문자열 길이/바이트가 창 경계에 걸쳐도 같은 값이 나와야 합니다.
+    @Test
+    void readsColumnsSpanningManyWindows() throws IOException {
+        Path file = writeSnapshot(500, 1);
+
+        for (int windowSize : new int[]{8, 16, 24, 4096}) {
+            try (CatalogSnapshot snapshot = CatalogSnapshot.open(file, windowSize)) {
+                assertBooks(snapshot, 500);
+            }
+        }
+    }
+
+    @Test
+    void rejectsWindowSizeThatSplitsFixedWidthValues() throws IOException {
+        Path file = writeSnapshot(10, 1);
+
+        assertThatThrownBy(() -> CatalogSnapshot.open(file, 12)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsCorruptedBody() throws IOException {
+        Path file = writeSnapshot(100, 1);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(SnapshotFormat.HEADER_SIZE + 200);
+            int value = raf.read();
+            raf.seek(SnapshotFormat.HEADER_SIZE + 200);
+            raf.write(value ^ 0x01);
+        }
+
+        assertThatThrownBy(() -> CatalogSnapshot.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("CRC32");
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path file = writeSnapshot(100, 1);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 10);
+        }
+        assertThatThrownBy(() -> CatalogSnapshot.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("길이");
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(SnapshotFormat.HEADER_SIZE - 1);
+        }
+        assertThatThrownBy(() -> CatalogSnapshot.open(file)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void rejectsOtherVersion() throws IOException {
+        Path file = writeSnapshot(10, 1);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(4);
+            raf.writeShort(SnapshotFormat.VERSION - 1);
+        }
+
+        assertThatThrownBy(() -> CatalogSnapshot.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("버전");
+    }
+}